@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.util.PathUtils;
+
+/**
+ * Tests {@link ArchiveExtractor}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class ArchiveExtractorTest {
+
+    @Test
+    void testExtract() throws Exception {
+        var largeContent = "x".repeat(100_000);
+        var archive = createZip(Map.of( //
+            "group/", "", //
+            "group/workflow/workflow.knime", "wf", //
+            "group/workflow/node/settings.xml", largeContent, //
+            "group/subgroup/component/template.knime", "template", //
+            "group/subgroup/data.txt", "data", //
+            "group/empty/", "", //
+            "other/file.txt", "not extracted"));
+        var destDir = PathUtils.createTempDir("dest");
+
+        try (var zipFile = new ZipFile(archive.toFile())) {
+            var groupDirs = ArchiveExtractor.extract(zipFile, "group", destDir, 4, new NullProgressMonitor());
+            assertThat(groupDirs).containsExactlyInAnyOrder(destDir, destDir.resolve("subgroup"),
+                destDir.resolve("empty"));
+        }
+        assertThat(destDir.resolve("workflow/workflow.knime")).hasContent("wf");
+        assertThat(destDir.resolve("workflow/node/settings.xml")).hasContent(largeContent);
+        assertThat(destDir.resolve("subgroup/component/template.knime")).hasContent("template");
+        assertThat(destDir.resolve("subgroup/data.txt")).hasContent("data");
+        assertThat(destDir.resolve("empty")).isEmptyDirectory();
+        assertThat(destDir.resolve("file.txt")).doesNotExist();
+    }
+
+    @Test
+    void testEntryOutsideOfDestinationIsRejected() throws Exception {
+        var archive = createZip(Map.of("group/../../evil.txt", "evil"));
+        var destDir = PathUtils.createTempDir("dest").resolve("dest");
+        Files.createDirectories(destDir);
+
+        try (var zipFile = new ZipFile(archive.toFile())) {
+            assertThatThrownBy(
+                () -> ArchiveExtractor.extract(zipFile, "group", destDir, 4, new NullProgressMonitor()))
+                    .isInstanceOf(IOException.class);
+        }
+        assertThat(destDir.resolveSibling("evil.txt")).doesNotExist();
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        var archive = createZip(Map.of("group/workflow.knime", "wf"));
+        var monitor = new NullProgressMonitor();
+        monitor.setCanceled(true);
+
+        try (var zipFile = new ZipFile(archive.toFile())) {
+            var destDir = PathUtils.createTempDir("dest");
+            assertThatThrownBy(() -> ArchiveExtractor.extract(zipFile, "group", destDir, 4, monitor))
+                .isInstanceOf(CanceledExecutionException.class);
+        }
+    }
+
+    private static Path createZip(final Map<String, String> entries) throws IOException {
+        var archive = PathUtils.createTempDir("archive").resolve("archive.knar");
+        try (var out = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (var entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.PathUtils;
+import org.knime.gateway.api.webui.entity.SpaceItemEnt;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.Space.NameCollisionHandling;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+
+/**
+ * Tests {@link ImportWorkflows}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class ImportWorkflowsTest {
+
+    /**
+     * The archive is extracted right into a local space, bypassing the space's own import. The result must not differ.
+     */
+    @Test
+    void testLocalImportMatchesImportViaSpace() throws Exception {
+        var archive = createArchive("wf.knwf", "wf/workflow.knime", "wf/node/settings.xml");
+        var localSpace = new LocalSpace(PathUtils.createTempDir("workspace"));
+        var referenceSpace = new LocalSpace(PathUtils.createTempDir("reference"));
+
+        // the second import collides with the first one, hence is renamed
+        for (var i = 0; i < 2; i++) {
+            var result = new ImportWorkflows().importItems(new NullProgressMonitor(), localSpace,
+                Space.ROOT_ITEM_ID, List.of(archive), NameCollisionHandling.AUTORENAME);
+            var expected = referenceSpace.importWorkflowOrWorkflowGroup(archive, Space.ROOT_ITEM_ID, dir -> {
+            }, NameCollisionHandling.AUTORENAME, new NullProgressMonitor());
+
+            assertThat(result.failures()).isEmpty();
+            assertThat(result.transferred()).hasSize(1);
+            var imported = result.transferred().get(0);
+            assertThat(imported.getName()).isEqualTo(expected.getName());
+            assertThat(imported.getId()).isEqualTo(expected.getId());
+            assertThat(imported.getType()).isEqualTo(expected.getType());
+        }
+        assertThat(names(localSpace)).isEqualTo(names(referenceSpace));
+        assertThat(localSpace.toLocalAbsolutePath(Space.ROOT_ITEM_ID).orElseThrow()).isDirectoryNotContaining(
+            path -> path.getFileName().toString().startsWith(".import_"));
+    }
+
+    @Test
+    void testLocalImportRejectsExistingItem() throws Exception {
+        var archive = createArchive("wf.knwf", "wf/workflow.knime");
+        var localSpace = new LocalSpace(PathUtils.createTempDir("workspace"));
+        var existingDir = localSpace.toLocalAbsolutePath(localSpace.createWorkflow(Space.ROOT_ITEM_ID, "wf").getId())
+            .orElseThrow();
+        var existingFiles = listFiles(existingDir);
+
+        var result = new ImportWorkflows().importItems(new NullProgressMonitor(), localSpace, Space.ROOT_ITEM_ID,
+            List.of(archive), NameCollisionHandling.NOOP);
+
+        assertThat(result.transferred()).isEmpty();
+        assertThat(result.failures()).extracting(ParallelTransfer.Failure::item).containsExactly("wf.knwf");
+        assertThat(listFiles(existingDir)).isEqualTo(existingFiles);
+        assertThat(names(localSpace)).containsExactly("wf");
+    }
+
+    private static List<String> names(final LocalSpace space) throws Exception {
+        return space.listWorkflowGroup(Space.ROOT_ITEM_ID).getItems().stream().map(SpaceItemEnt::getName).sorted()
+            .toList();
+    }
+
+    private static List<Path> listFiles(final Path dir) throws IOException {
+        try (var files = Files.walk(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Path createArchive(final String fileName, final String... entries) throws IOException {
+        var archive = PathUtils.createTempDir("archive").resolve(fileName);
+        try (var out = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (var entry : entries) {
+                out.putNextEntry(new ZipEntry(entry));
+                out.write(entry.getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+}
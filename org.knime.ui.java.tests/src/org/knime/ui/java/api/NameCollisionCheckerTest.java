@@ -0,0 +1,228 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.org; Email: contact@knime.org
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.knime.gateway.api.webui.entity.SpaceItemEnt;
+import org.knime.gateway.api.webui.entity.WorkflowGroupContentEnt;
+import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.SpaceProvider;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+
+/**
+ * Tests {@link NameCollisionChecker}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class NameCollisionCheckerTest {
+
+    @Test
+    void testCheckForNameCollisionsListsDestinationOnce() throws Exception {
+        var space = mockSpace();
+
+        assertThat(
+            NameCollisionChecker.checkForNameCollisions("provider", space, "destId", new Object[]{"id1", "id2", "id3"}))
+                .containsExactly("a", "c");
+        assertThat(NameCollisionChecker.test("provider", space, "destId", List.of("id1", "id2"))).isTrue();
+        assertThat(NameCollisionChecker.test("provider", space, "destId", List.of("id2", "id3"))).isTrue();
+        verify(space, times(3)).listWorkflowGroup("destId");
+        verify(space, never()).containsItemWithName(any(), any());
+
+        var existingNames = NameCollisionChecker.ExistingNames.of(space, "destId");
+        assertThat(Space.generateUniqueSpaceItemName(existingNames, "a", false)).isNotIn("a", "c", "x");
+    }
+
+    @Test
+    void testReserveUniqueNamesWithThousandsOfSiblings() throws Exception {
+        var space = mock(Space.class);
+        var content = mock(WorkflowGroupContentEnt.class);
+        var items = new ArrayList<SpaceItemEnt>();
+        items.add(mockItem("Job"));
+        for (var i = 1; i < 5_000; i++) {
+            items.add(mockItem("Job (" + i + ")"));
+        }
+        when(content.getItems()).thenReturn(items);
+        when(space.listWorkflowGroup("destId")).thenReturn(content);
+
+        var existingNames = NameCollisionChecker.ExistingNames.of(space, "destId");
+        var reservedNames = new HashSet<String>();
+        for (var i = 0; i < 10; i++) {
+            var name = existingNames.reserveUniqueName("job", true);
+            assertThat(existingNames.test(name)).isTrue();
+            reservedNames.add(name);
+        }
+        // all reserved names are distinct and none of them collides (case-insensitively) with an existing one
+        assertThat(reservedNames).hasSize(10).doesNotContain("job").allSatisfy(name -> assertThat(
+            items.stream().map(SpaceItemEnt::getName).noneMatch(name::equalsIgnoreCase)).isTrue());
+        // a single request, no matter how many candidate names have been tried
+        verify(space, times(1)).listWorkflowGroup("destId");
+        verify(space, never()).containsItemWithName(any(), any());
+    }
+
+    @Test
+    void testListedNamesAreComparedCaseInsensitively() throws Exception {
+        var space = mockSpace();
+        when(space.getItemName("id4")).thenReturn("A");
+
+        assertThat(NameCollisionChecker.checkForNameCollisions("provider", space, "destId", new Object[]{"id4", "id2"}))
+            .containsExactly("A");
+
+        // the names listed for the check are re-used to generate a unique name
+        var existingNames = NameCollisionChecker.ExistingNames.of(space, "destId");
+        assertThat(NameCollisionChecker.checkForNameCollisions(existingNames, Stream.of("X", "y")))
+            .containsExactly("X");
+        assertThat(existingNames.reserveUniqueName("X", false)).isNotEqualToIgnoringCase("x");
+        verify(space, times(2)).listWorkflowGroup("destId");
+    }
+
+    @Test
+    void testSingleNamesAndLocalSpaceNamesAreCheckedByTheSpace() throws Exception {
+        var space = mockSpace();
+        when(space.containsItemWithName("destId", "a")).thenReturn(true);
+
+        // a single name doesn't require listing the entire workflow group
+        assertThat(NameCollisionChecker.test("provider", space, "destId", List.of("id1"))).isTrue();
+        assertThat(NameCollisionChecker.test("provider", space, "destId", List.of("id2"))).isFalse();
+        verify(space, never()).listWorkflowGroup(any());
+
+        // names in the local space are compared the way the file system does it, e.g. case-sensitively
+        var localSpace = mock(LocalSpace.class);
+        when(localSpace.getItemName("id1")).thenReturn("Foo");
+        when(localSpace.getItemName("id2")).thenReturn("bar");
+        when(localSpace.containsItemWithName("destId", "bar")).thenReturn(true);
+        assertThat(NameCollisionChecker.checkForNameCollisions(SpaceProvider.LOCAL_SPACE_PROVIDER_ID, localSpace,
+            "destId", new Object[]{"id1", "id2"})).containsExactly("bar");
+        verify(localSpace, never()).listWorkflowGroup(any());
+    }
+
+    @Test
+    void testFailureToResolveItemNameIsPropagated() throws Exception {
+        var space = mockSpace();
+        when(space.getItemName("id2")).thenThrow(new MutableServiceCallException("failed", false, null));
+
+        assertThatThrownBy(
+            () -> NameCollisionChecker.checkForNameCollisions("provider", space, "destId",
+                new Object[]{"id1", "id2", "id3"}))
+            .isInstanceOf(MutableServiceCallException.class).hasMessage("failed");
+    }
+
+    @Test
+    void testGetRootNamesOfLargeArchive() throws Exception {
+        var singleRoot = createZip("workflow/", "/workflow/workflow.knime", "workflow/data/");
+        try (var zipFile = new ZipFile(singleRoot.toFile())) {
+            assertThat(NameCollisionChecker.getRootNames(zipFile, 2)).containsExactly("workflow");
+        }
+
+        // the second root is found right away, i.e. the remaining entries aren't looked at
+        var entryNames = new ArrayList<String>();
+        entryNames.add("workflow1/workflow.knime");
+        entryNames.add("workflow2/workflow.knime");
+        for (var i = 0; i < 50_000; i++) {
+            entryNames.add("workflow" + (i % 3) + "/data/file" + i);
+        }
+        var multipleRoots = createZip(entryNames.toArray(String[]::new));
+        try (var zipFile = new ZipFile(multipleRoots.toFile())) {
+            assertThat(NameCollisionChecker.getRootNames(zipFile, 2)).containsExactly("workflow1", "workflow2");
+            assertThat(NameCollisionChecker.getRootNames(zipFile, 5)).containsExactly("workflow1", "workflow2",
+                "workflow0");
+        }
+    }
+
+    private static Path createZip(final String... entryNames) throws IOException {
+        var zip = Files.createTempFile("archive", ".knwf");
+        zip.toFile().deleteOnExit();
+        try (var out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            for (var entryName : entryNames) {
+                out.putNextEntry(new ZipEntry(entryName));
+                out.closeEntry();
+            }
+        }
+        return zip;
+    }
+
+    private static Space mockSpace() throws Exception {
+        var space = mock(Space.class);
+        when(space.getItemName("id1")).thenReturn("a");
+        when(space.getItemName("id2")).thenReturn("b");
+        when(space.getItemName("id3")).thenReturn("c");
+        var content = mock(WorkflowGroupContentEnt.class);
+        var items = List.of(mockItem("a"), mockItem("c"), mockItem("x"));
+        when(content.getItems()).thenReturn(items);
+        when(space.listWorkflowGroup("destId")).thenReturn(content);
+        return space;
+    }
+
+    private static SpaceItemEnt mockItem(final String name) {
+        var item = mock(SpaceItemEnt.class);
+        when(item.getName()).thenReturn(name);
+        return item;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.knime.gateway.impl.webui.service.events.EventConsumer;
+
+/**
+ * Tests {@link ParallelTransfer}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class ParallelTransferTest {
+
+    @Test
+    void testPartialSuccess() {
+        var eventConsumer = mock(EventConsumer.class);
+        DesktopAPI.injectDependency(eventConsumer);
+
+        var result = ParallelTransfer.run("Transferring", List.of(1, 2, 3, 4, 5), i -> "item" + i, (i, monitor) -> {
+            if (i == 3) {
+                throw new IOException("failed");
+            }
+            return i * 10;
+        }, 2, new NullProgressMonitor());
+
+        assertThat(result.transferred()).containsExactly(10, 20, 40, 50);
+        assertThat(result.failures()).containsExactly(new ParallelTransfer.Failure("item3", "failed"));
+        assertThat(result.failureSummary()).isEqualTo("- item3: failed");
+        // one event when an item is started and one when it's finished
+        verify(eventConsumer, times(10)).accept(eq(ParallelTransfer.SPACE_TRANSFER_PROGRESS_EVENT_NAME), any());
+        verify(eventConsumer).accept(eq(ParallelTransfer.SPACE_TRANSFER_FINISHED_EVENT_NAME), any());
+    }
+
+    @Test
+    void testParallelismIsBounded() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        var result = ParallelTransfer.run("Transferring", List.of(1, 2, 3, 4, 5, 6, 7, 8), String::valueOf,
+            (i, monitor) -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return i;
+            }, 3, new NullProgressMonitor());
+
+        assertThat(result.transferred()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void testCancel() {
+        var monitor = new NullProgressMonitor();
+        var interrupted = new AtomicBoolean();
+
+        var result = ParallelTransfer.run("Transferring", List.of(1, 2, 3), String::valueOf, (i, itemMonitor) -> {
+            // the item in flight is asked to stop but not interrupted, the others are never started
+            monitor.setCanceled(true);
+            while (!itemMonitor.isCanceled()) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            interrupted.set(Thread.currentThread().isInterrupted());
+            return i;
+        }, 1, monitor);
+
+        assertThat(interrupted).isFalse();
+        assertThat(result.transferred()).containsExactly(1);
+        assertThat(result.failures()).containsExactly(new ParallelTransfer.Failure("2", "Canceled"),
+            new ParallelTransfer.Failure("3", "Canceled"));
+    }
+
+    @AfterEach
+    void disposeDesktopAPIDependencies() {
+        DesktopAPI.disposeDependencies();
+    }
+
+}
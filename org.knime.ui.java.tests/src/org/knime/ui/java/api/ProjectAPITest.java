@@ -70,6 +70,7 @@ import org.knime.gateway.impl.webui.AppStateUpdater;
 import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 import org.knime.testing.util.WorkflowManagerUtil;
 import org.knime.ui.java.util.ExampleProjects;
+import org.knime.ui.java.util.LocalItemStateCache;
 import org.knime.ui.java.util.LocalSpaceUtilTest;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
 import org.knime.ui.java.util.MostRecentlyUsedProjects.RecentlyUsedProject;
@@ -120,6 +121,7 @@ class ProjectAPITest {
 
         DesktopAPI.injectDependency(mruProjects);
         DesktopAPI.injectDependency(localSpace);
+        DesktopAPI.injectDependency(new LocalItemStateCache(localSpace));
 
         var res = ProjectAPI.updateAndGetMostRecentlyUsedProjects();
         assertThat(res).isEqualTo(String.format("""
@@ -147,6 +149,29 @@ class ProjectAPITest {
         assertThat(mruProjects.get()).hasSize(2);
     }
 
+    @Test
+    void testSearchMostRecentlyUsedProjects() throws IOException {
+        var mruProjects = new MostRecentlyUsedProjects();
+        var localSpace = LocalSpaceUtilTest.createLocalSpace();
+        mruProjects.add(new RecentlyUsedProject("name1", createOrigin("pid", "sid", "iid1"), OffsetDateTime.MAX));
+        mruProjects.add(new RecentlyUsedProject("other", createOrigin("pid", "sid", "iid2"), OffsetDateTime.MAX));
+        mruProjects.add(new RecentlyUsedProject("name3", createOrigin("pid", "sid", "iid3"), OffsetDateTime.MAX));
+
+        DesktopAPI.injectDependency(mruProjects);
+        DesktopAPI.injectDependency(localSpace);
+        DesktopAPI.injectDependency(new LocalItemStateCache(localSpace));
+
+        var res = DesktopAPI.MAPPER.readTree(ProjectAPI.searchMostRecentlyUsedProjects("name", 0d, 1d));
+        assertThat(res.get("totalCount").asInt()).isEqualTo(2);
+        assertThat(res.get("projects").size()).isEqualTo(1);
+        assertThat(res.get("projects").get(0).get("name").asText()).isEqualTo("name3");
+        assertThat(res.get("projects").get(0).get("origin").get("itemId").asText()).isEqualTo("iid3");
+
+        res = DesktopAPI.MAPPER.readTree(ProjectAPI.searchMostRecentlyUsedProjects(null, null, null));
+        assertThat(res.get("totalCount").asInt()).isEqualTo(3);
+        assertThat(res.get("projects").size()).isEqualTo(3);
+    }
+
     @Test
     void testRemoveMostRecentlyUsedProject() {
         var mruProjects = new MostRecentlyUsedProjects();
@@ -50,12 +50,16 @@ package org.knime.ui.java.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.knime.ui.java.api.SaveProjectTest.assertWorkflowSaved;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -147,6 +151,82 @@ class SaveAndCloseProjectsTest {
                 .isInstanceOf(SaveAndCloseProjectsException.class);
     }
 
+    @Test
+    void testSaveAndCloseWorkflowsInParallelWithError() throws Exception {
+        var appStateUpdater = new AppStateUpdater();
+        var pm = ProjectManager.getInstance();
+        DesktopAPI.injectDependency(pm);
+        DesktopAPI.injectDependency(appStateUpdater);
+
+        var wfm1 = WorkflowManagerUtil.createEmptyWorkflow();
+        var wfm3 = WorkflowManagerUtil.createEmptyWorkflow();
+        var wfm4 = WorkflowManagerUtil.createEmptyWorkflow();
+        // ROOT cannot be saved
+        var wfms = List.of(wfm1, wfm1.getParent(), wfm3, wfm4.getParent(), wfm4);
+        for (int i = 1; i <= wfms.size(); i++) {
+            var origin = new Origin("providerId", "spaceId", "itemId", ProjectTypeEnum.WORKFLOW);
+            var project = Project.builder() //
+                .setWfm(wfms.get(i - 1)) //
+                .setOrigin(origin) //
+                .setId("projectId" + i) //
+                .build();
+            pm.addProject(project);
+        }
+
+        assertThatThrownBy(() -> SaveAndCloseProjects.saveAndCloseProjects(
+            new String[]{"projectId1", "projectId2", "projectId3", "projectId4", "projectId5"}, m_progressService))
+                .isInstanceOf(SaveAndCloseProjectsException.class) //
+                .hasMessageEndingWith("since at least saving and closing <projectId2> failed");
+
+        assertWorkflowSaved(wfm1);
+        assertWorkflowSaved(wfm3);
+        assertWorkflowSaved(wfm4);
+        assertThat(pm.getProjectIds()).containsExactlyInAnyOrder("projectId2", "projectId4");
+        assertThat(pm.isActiveProject("projectId2")).isTrue();
+    }
+
+    @Test
+    void testSaveWorkflowsInParallelReportsProgressPerProject() throws Exception {
+        var pm = ProjectManager.getInstance();
+        var wfms = List.of(WorkflowManagerUtil.createEmptyWorkflow(), WorkflowManagerUtil.createEmptyWorkflow(),
+            WorkflowManagerUtil.createEmptyWorkflow());
+        var projectIds = new String[wfms.size()];
+        for (int i = 0; i < wfms.size(); i++) {
+            projectIds[i] = "projectId" + (i + 1);
+            pm.addProject(Project.builder() //
+                .setWfm(wfms.get(i)) //
+                .setOrigin(new Origin("providerId", "spaceId", "itemId", ProjectTypeEnum.WORKFLOW)) //
+                .setId(projectIds[i]) //
+                .build());
+        }
+        var worked = new DoubleAdder();
+        var monitor = new NullProgressMonitor() {
+            @Override
+            public void internalWorked(final double work) {
+                worked.add(work);
+            }
+
+            @Override
+            public void worked(final int work) {
+                worked.add(work);
+            }
+        };
+        doAnswer(invocation -> {
+            ((IRunnableWithProgress)invocation.getArgument(0)).run(monitor);
+            return null;
+        }).when(m_progressService).busyCursorWhile(any());
+
+        var firstFailure = new AtomicReference<Optional<String>>();
+        SaveAndCloseProjects.saveProjectsWithProgressBar(projectIds, firstFailure, m_progressService);
+
+        assertThat(firstFailure.get()).isNull();
+        for (var wfm : wfms) {
+            assertWorkflowSaved(wfm);
+        }
+        // every project contributes exactly its share, no matter how the save reports its progress
+        assertThat(worked.sum()).isCloseTo(wfms.size(), within(1e-6));
+    }
+
     @AfterEach
     void tearDown() {
         var pm = ProjectManager.getInstance();
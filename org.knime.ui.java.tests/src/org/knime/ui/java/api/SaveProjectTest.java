@@ -49,9 +49,16 @@
 package org.knime.ui.java.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.junit.jupiter.api.AfterEach;
@@ -59,6 +66,12 @@ import org.junit.jupiter.api.Test;
 import org.knime.core.node.exec.dataexchange.in.PortObjectInNodeFactory;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.gateway.api.webui.entity.SpaceItemReferenceEnt.ProjectTypeEnum;
+import org.knime.gateway.impl.project.Origin;
+import org.knime.gateway.impl.project.Project;
+import org.knime.gateway.impl.project.ProjectManager;
+import org.knime.gateway.impl.webui.AppStateUpdater;
+import org.knime.gateway.impl.webui.service.events.EventConsumer;
 import org.knime.testing.util.WorkflowManagerUtil;
 
 /**
@@ -80,9 +93,69 @@ class SaveProjectTest {
         assertThat(result).as("true is returned if save was successful").isTrue();
     }
 
+    @Test
+    void testSaveUnchangedLocalWorkflowIsSkipped() throws Exception {
+        m_wfm = WorkflowManagerUtil.createEmptyWorkflow();
+        WorkflowManagerUtil.createAndAddNode(m_wfm, new PortObjectInNodeFactory());
+        assertThat(SaveProject.saveProject(new NullProgressMonitor(), m_wfm, true)).isTrue();
+        var workflowFile =
+            m_wfm.getContextV2().getExecutorInfo().getLocalWorkflowPath().resolve(WorkflowPersistor.WORKFLOW_FILE);
+        var lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(workflowFile, lastModified);
+
+        assertThat(SaveProject.saveProject(new NullProgressMonitor(), m_wfm, true)).isTrue();
+        assertThat(Files.getLastModifiedTime(workflowFile)).as("unchanged workflow not written again")
+            .isEqualTo(lastModified);
+
+        WorkflowManagerUtil.createAndAddNode(m_wfm, new PortObjectInNodeFactory());
+        assertThat(SaveProject.saveProject(new NullProgressMonitor(), m_wfm, true)).isTrue();
+        assertThat(Files.getLastModifiedTime(workflowFile)).isNotEqualTo(lastModified);
+        assertWorkflowSaved(m_wfm);
+    }
+
+    @Test
+    void testSaveProjectAsync() throws Exception {
+        // disposed when the project is removed
+        var wfm = WorkflowManagerUtil.createEmptyWorkflow();
+        WorkflowManagerUtil.createAndAddNode(wfm, new PortObjectInNodeFactory());
+        var pm = ProjectManager.getInstance();
+        pm.addProject(Project.builder() //
+            .setWfm(wfm) //
+            .setOrigin(new Origin("providerId", "spaceId", "itemId", ProjectTypeEnum.WORKFLOW)) //
+            .setId("projectId") //
+            .build());
+        var eventConsumer = mock(EventConsumer.class);
+        DesktopAPI.injectDependency(eventConsumer);
+        DesktopAPI.injectDependency(pm);
+        DesktopAPI.injectDependency(new AppStateUpdater());
+
+        assertThat(SaveProject.saveProjectAsync("projectId", false)).as("save has been started").isTrue();
+        SaveProject.awaitPendingSave("projectId");
+        verify(eventConsumer).accept(SaveProject.SAVE_PROJECT_FINISHED_EVENT_NAME,
+            DesktopAPI.MAPPER.readTree("{\"projectId\":\"projectId\",\"success\":true}"));
+        verify(eventConsumer, atLeastOnce()).accept(eq(SaveProject.SAVE_PROJECT_PROGRESS_EVENT_NAME), any());
+        assertWorkflowSaved(wfm);
+    }
+
+    @Test
+    void testProjectIsSavedExclusively() {
+        var nestedSaveResult = new AtomicBoolean(true);
+        assertThat(SaveProject.saveExclusively("projectId", () -> {
+            nestedSaveResult.set(SaveProject.saveExclusively("projectId", () -> true));
+            return true;
+        })).isTrue();
+        assertThat(nestedSaveResult).as("project not saved while already being saved").isFalse();
+        assertThat(SaveProject.saveExclusively("projectId", () -> true)).as("project can be saved again").isTrue();
+    }
+
     @AfterEach
     void disposeWorkflowManager() {
-        WorkflowManagerUtil.disposeWorkflow(m_wfm);
+        var pm = ProjectManager.getInstance();
+        pm.getProjectIds().forEach(pm::removeProject);
+        DesktopAPI.disposeDependencies();
+        if (m_wfm != null) {
+            WorkflowManagerUtil.disposeWorkflow(m_wfm);
+        }
     }
 
     static void assertWorkflowSaved(final WorkflowManager wfm) throws IOException {
@@ -0,0 +1,111 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.knime.gateway.api.webui.entity.SpaceItemEnt;
+import org.knime.gateway.api.webui.entity.WorkflowGroupContentEnt;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.Space.NameCollisionHandling;
+import org.knime.ui.java.api.ServerTransfer.Target;
+
+/**
+ * Tests {@link ServerTransfer}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class ServerTransferTest {
+
+    @Test
+    void testResolveTargetsWithOverwrite() throws Exception {
+        var targets = ServerTransfer.resolveTargets(List.of("wf", "new"), existingNames("WF", "other"),
+            NameCollisionHandling.OVERWRITE, i -> true);
+        assertThat(targets).containsExactly(new Target("wf", "wf", true), new Target("new", "new", false));
+    }
+
+    @Test
+    void testResolveTargetsWithAutorename() throws Exception {
+        var targets = ServerTransfer.resolveTargets(List.of("wf", "wf (1)", "new"), existingNames("wf"),
+            NameCollisionHandling.AUTORENAME, i -> true);
+        assertThat(targets).hasSize(3);
+        // the renamed item must neither take an existing name nor the name of another copied item
+        assertThat(targets.get(0).targetName()).startsWith("wf").isNotIn("wf", "wf (1)");
+        assertThat(targets.get(0).overwrite()).isFalse();
+        assertThat(targets.subList(1, 3)).containsExactly(new Target("wf (1)", "wf (1)", false),
+            new Target("new", "new", false));
+    }
+
+    @Test
+    void testResolveTargetsWithoutCollisions() throws Exception {
+        var targets = ServerTransfer.resolveTargets(List.of("a", "b"), existingNames("c"),
+            NameCollisionHandling.NOOP, i -> true);
+        assertThat(targets).containsExactly(new Target("a", "a", false), new Target("b", "b", false));
+    }
+
+    private static NameCollisionChecker.ExistingNames existingNames(final String... names) throws Exception {
+        var space = mock(Space.class);
+        var content = mock(WorkflowGroupContentEnt.class);
+        var items = Stream.of(names).map(name -> {
+            var item = mock(SpaceItemEnt.class);
+            when(item.getName()).thenReturn(name);
+            return item;
+        }).toList();
+        when(content.getItems()).thenReturn(items);
+        when(space.listWorkflowGroup("destId")).thenReturn(content);
+        return NameCollisionChecker.ExistingNames.of(space, "destId");
+    }
+
+}
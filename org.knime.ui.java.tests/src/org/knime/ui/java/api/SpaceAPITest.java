@@ -59,6 +59,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.knime.gateway.api.webui.entity.SpaceItemEnt;
 import org.knime.gateway.api.webui.entity.SpaceProviderEnt.TypeEnum;
 import org.knime.gateway.impl.webui.spaces.SpaceProvider;
 import org.knime.gateway.impl.webui.spaces.SpaceProvider.SpaceProviderConnection;
@@ -153,6 +154,19 @@ class SpaceAPITest {
         verify(connection).disconnect();
     }
 
+    @Test
+    void testItemNamesToItemIds() {
+        var items = List.of(item("id1", "a"), item("id2", "b"), item("id3", "c"));
+        assertThat(SpaceAPI.itemNamesToItemIds(items, List.of("c", "missing", "a"))).containsExactly("id3", "id1");
+    }
+
+    private static SpaceItemEnt item(final String id, final String name) {
+        var item = mock(SpaceItemEnt.class);
+        when(item.getId()).thenReturn(id);
+        when(item.getName()).thenReturn(name);
+        return item;
+    }
+
     static SpaceProvidersManager createSpaceProvidersManager(final SpaceProvider... spaceProviders) {
         var spaceProvidersFactory = mock(SpaceProviderFactory.class);
         var providers = List.of(spaceProviders);
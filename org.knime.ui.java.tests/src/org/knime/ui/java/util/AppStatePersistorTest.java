@@ -74,6 +74,7 @@ import org.knime.gateway.impl.webui.spaces.SpaceProvidersManager;
 import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 import org.knime.gateway.impl.webui.spaces.local.LocalSpaceProvider;
 import org.knime.ui.java.persistence.AppStatePersistor;
+import org.knime.ui.java.persistence.AppStateSnapshot;
 import org.knime.ui.java.util.MostRecentlyUsedProjects.RecentlyUsedProject;
 
 /**
@@ -136,6 +137,27 @@ public class AppStatePersistorTest {
               "projects" : [ ]
             }""".formatted(KNIMEConstants.VERSION);
 
+    /**
+     * App state with additional unknown properties which are expected to be skipped on load.
+     */
+    private static final String VALID_APP_STATE_WITH_UNKNOWN_PROPERTY = """
+            {
+              "version" : "%s",
+              "unknown" : { "nested" : [ 1, 2, { "a" : "b" } ] },
+              "projects" : [ ],
+              "mostRecentlyUsedProjects" : [ {
+                "name" : "name2",
+                "timeUsed" : "%s",
+                "unknown" : [ "x" ],
+                "origin" : {
+                  "providerId" : "pid",
+                  "spaceId" : "sid",
+                  "projectType" : "WORKFLOW",
+                  "itemId" : "iid2"
+                }
+              } ]
+            }""".formatted(KNIMEConstants.VERSION, OffsetDateTime.MAX);
+
     private static final String INVALID_APP_STATE_NO_RELATIVE_PATH = """
             {
               "version" : "%s",
@@ -183,7 +205,7 @@ public class AppStatePersistorTest {
         spaceProvidersManager.update();
         for (final var p : AppStatePersistor.loadAppState(m_space).openProjectsToRestore()) {
             pm.addProject(CreateProject.createProjectFromOrigin(p.origin(), ProgressReporter.NO_OP,
-                m_space));
+                m_space, SpaceMetadataCache.noCache()));
         }
         var appStateStringNew = AppStatePersistor.serializeAppState(pm, mruProjects, m_space);
         assertThat(appStateStringNew).as("Assert the valid app state was saved and loaded").isEqualTo(appStateString);
@@ -243,6 +265,55 @@ public class AppStatePersistorTest {
 
     }
 
+    @Test
+    void testLoadAppStateSkipsUnknownProperties() {
+        AppStatePersistor.saveAppState(VALID_APP_STATE_WITH_UNKNOWN_PROPERTY);
+
+        var loadedAppState = AppStatePersistor.loadAppState(m_space);
+        assertThat(loadedAppState.openProjectsToRestore()).isEmpty();
+        assertThat(loadedAppState.recentlyUsedProjects()).hasSize(1);
+        var loadedProj = loadedAppState.recentlyUsedProjects().get(0);
+        assertThat(loadedProj.name()).isEqualTo("name2");
+        assertThat(loadedProj.origin().itemId()).isEqualTo("iid2");
+        assertThat(loadedProj.timeUsed()).isEqualTo(OffsetDateTime.MAX);
+    }
+
+    @Test
+    void testAppStateSnapshot() throws Exception {
+        var pm = ProjectManager.getInstance();
+        var mruProjects = new MostRecentlyUsedProjects();
+        var snapshot = AppStateSnapshot.create(pm, mruProjects, m_space);
+        assertThat(snapshot.get()).isEqualTo(VALID_APP_STATE_WITHOUT_PROJECT);
+
+        openWorkflowProject(true);
+        // changes are picked up even if not signaled (yet)
+        assertThat(snapshot.get()).isEqualTo(VALID_APP_STATE_WITH_PROJECT);
+        snapshot.projectsChanged();
+        assertThat(snapshot.get()).isEqualTo(VALID_APP_STATE_WITH_PROJECT);
+
+        mruProjects.add(new RecentlyUsedProject("name1",
+            createOrigin(SpaceProvider.LOCAL_SPACE_PROVIDER_ID, LocalSpace.LOCAL_SPACE_ID, itemId), OffsetDateTime.MAX));
+        mruProjects.add(new RecentlyUsedProject("name2", createOrigin("pid", "sid", "iid2"), OffsetDateTime.MAX));
+        // changes to the recently used projects are signaled automatically
+        assertThat(snapshot.get()).isEqualTo(AppStatePersistor.serializeAppState(pm, mruProjects, m_space));
+
+        // relative path of the local project changes without the origin changing
+        m_space.renameItem(itemId, "renamed");
+        snapshot.localItemsChanged();
+        assertThat(snapshot.get()).contains("renamed")
+            .isEqualTo(AppStatePersistor.serializeAppState(pm, mruProjects, m_space));
+
+        // e.g. renamed outside of the application, i.e. never signaled
+        m_space.renameItem(itemId, "renamed again");
+        assertThat(snapshot.get()).contains("renamed again")
+            .isEqualTo(AppStatePersistor.serializeAppState(pm, mruProjects, m_space));
+
+        pm.getProjectIds().forEach(pm::removeProject);
+        snapshot.projectsChanged();
+        mruProjects.removeIf(p -> p.name().equals("name2"));
+        assertThat(snapshot.get()).isEqualTo(AppStatePersistor.serializeAppState(pm, mruProjects, m_space));
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         var localSpacePath = PathUtils.createTempDir("workspace");
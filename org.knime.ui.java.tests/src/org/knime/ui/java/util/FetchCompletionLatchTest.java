@@ -0,0 +1,147 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Observable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * Tests {@link FetchCompletionLatch}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("deprecation")
+class FetchCompletionLatchTest {
+
+    private static final class ContentProvider extends Observable {
+
+        private final AtomicBoolean m_fetched = new AtomicBoolean();
+
+        private final AtomicInteger m_numChecks = new AtomicInteger();
+
+        boolean isFetched() {
+            m_numChecks.incrementAndGet();
+            return m_fetched.get();
+        }
+
+        void finishFetching() {
+            m_fetched.set(true);
+            setChanged();
+            notifyObservers();
+        }
+    }
+
+    @Test
+    void testWakesUpOnNotification() throws Exception {
+        var provider = new ContentProvider();
+        var fetching = CompletableFuture.runAsync(() -> {
+            sleep(200);
+            provider.finishFetching();
+        });
+
+        var start = System.nanoTime();
+        assertThat(FetchCompletionLatch.await(provider, provider::isFetched, Duration.ofMinutes(1), () -> false))
+            .isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        // checked once initially and once after the notification
+        assertThat(provider.m_numChecks).hasValue(2);
+        assertThat(provider.countObservers()).isZero();
+        fetching.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testAlreadyFetched() throws Exception {
+        var provider = new ContentProvider();
+        provider.finishFetching();
+        assertThat(FetchCompletionLatch.await(provider, provider::isFetched, Duration.ofMinutes(1), () -> false))
+            .isTrue();
+        assertThat(provider.m_numChecks).hasValue(1);
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        var provider = new ContentProvider();
+        assertThat(FetchCompletionLatch.await(provider, provider::isFetched, Duration.ofMillis(300), () -> false))
+            .isFalse();
+        assertThat(provider.countObservers()).isZero();
+    }
+
+    @Test
+    void testCancel() {
+        var provider = new ContentProvider();
+        var canceled = new AtomicBoolean();
+        CompletableFuture.runAsync(() -> {
+            sleep(200);
+            canceled.set(true);
+        });
+        assertThatThrownBy(
+            () -> FetchCompletionLatch.await(provider, provider::isFetched, Duration.ofMinutes(1), canceled::get))
+                .isInstanceOf(CanceledExecutionException.class);
+        assertThat(provider.countObservers()).isZero();
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) { // NOSONAR
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.PathUtils;
+
+/**
+ * Tests {@link HubWorkflowCache}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class HubWorkflowCacheTest {
+
+    @Test
+    void testPutAndCopyTo() throws Exception {
+        var cache = new HubWorkflowCache(PathUtils.createTempDir("hub_workflow_cache"), 1024);
+        var downloadDir = PathUtils.createTempDir("download");
+        Files.createDirectories(downloadDir.resolve("workflow"));
+        Files.writeString(downloadDir.resolve("workflow/workflow.knime"), "content");
+
+        var destDir = PathUtils.createTempDir("dest").resolve("copy");
+        assertThat(cache.copyTo("hub", "*itemId", 2, destDir, () -> true)).isFalse();
+
+        cache.put("hub", "*itemId", 2, downloadDir);
+        // the cached copy must not be affected by modifications of the opened download
+        Files.writeString(downloadDir.resolve("workflow/workflow.knime"), "modified");
+
+        assertThat(cache.copyTo("hub", "*itemId", 1, destDir, () -> true)).isFalse();
+        assertThat(cache.copyTo("hub", "*otherItemId", 2, destDir, () -> true)).isFalse();
+        assertThat(cache.copyTo("otherHub", "*itemId", 2, destDir, () -> true)).isFalse();
+        // cached, but not accessible (anymore)
+        assertThat(cache.copyTo("hub", "*itemId", 2, destDir, () -> false)).isFalse();
+        assertThat(destDir).doesNotExist();
+        assertThat(cache.copyTo("hub", "*itemId", 2, destDir, () -> true)).isTrue();
+        assertThat(destDir.resolve("workflow/workflow.knime")).hasContent("content");
+        assertThat(cache.getStatistics()).isEqualTo(new HubWorkflowCache.Statistics(1, 5, 0, 0));
+    }
+
+    @Test
+    void testPersistenceAndEviction() throws Exception {
+        var root = PathUtils.createTempDir("hub_workflow_cache");
+        var cache = new HubWorkflowCache(root, 250);
+        cache.put("hub", "*item1", 1, createDownload(100));
+        cache.put("hub", "*item2", 1, createDownload(100));
+        // the least recently used one is 'item2' afterwards
+        assertThat(cache.copyTo("hub", "*item1", 1, PathUtils.createTempDir("dest").resolve("copy"),
+            () -> true)).isTrue();
+        cache.put("hub", "*item3", 1, createDownload(100));
+        assertThat(cache.getSize()).isEqualTo(200);
+        assertThat(cache.getStatistics().evictions()).isEqualTo(1);
+
+        // entries are restored from disk
+        var restoredCache = new HubWorkflowCache(root, 250);
+        assertThat(restoredCache.getSize()).isEqualTo(200);
+        assertThat(restoredCache.copyTo("hub", "*item1", 1, PathUtils.createTempDir("dest").resolve("copy"),
+            () -> true)).isTrue();
+        assertThat(restoredCache.copyTo("hub", "*item2", 1, PathUtils.createTempDir("dest").resolve("copy"),
+            () -> true)).isFalse();
+        assertThat(restoredCache.copyTo("hub", "*item3", 1, PathUtils.createTempDir("dest").resolve("copy"),
+            () -> true)).isTrue();
+
+        // a smaller size bound evicts entries right away
+        assertThat(new HubWorkflowCache(root, 150).getSize()).isEqualTo(100);
+    }
+
+    @Test
+    void testCorruptedEntryIsDropped() throws Exception {
+        var root = PathUtils.createTempDir("hub_workflow_cache");
+        var cache = new HubWorkflowCache(root, 1024);
+        cache.put("hub", "*itemId", 1, createDownload(100));
+        try (var files = Files.walk(root)) {
+            var cachedFile = files.filter(f -> f.getFileName().toString().equals("workflow.knime")).findFirst().get();
+            Files.write(cachedFile, new byte[99]);
+        }
+
+        var destDir = PathUtils.createTempDir("dest").resolve("copy");
+        assertThat(cache.copyTo("hub", "*itemId", 1, destDir, () -> true)).isFalse();
+        // the corrupted copy isn't left behind
+        assertThat(destDir).doesNotExist();
+        assertThat(cache.getStatistics()).isEqualTo(new HubWorkflowCache.Statistics(0, 1, 0, 1));
+        assertThat(cache.getSize()).isZero();
+    }
+
+    private static Path createDownload(final int numBytes) throws Exception {
+        var downloadDir = PathUtils.createTempDir("download");
+        Files.write(downloadDir.resolve("workflow.knime"), new byte[numBytes]);
+        return downloadDir;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.PathUtils;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+
+/**
+ * Tests {@link LocalItemStateCache}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class LocalItemStateCacheTest {
+
+    private LocalSpace m_localSpace;
+
+    private String m_groupId;
+
+    private String m_workflowId;
+
+    private final AtomicLong m_nanoTime = new AtomicLong();
+
+    private LocalItemStateCache m_cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        m_localSpace = spy(new LocalSpace(PathUtils.createTempDir("workspace")));
+        m_groupId = m_localSpace.createWorkflowGroup(Space.ROOT_ITEM_ID).getId();
+        m_workflowId = m_localSpace.createWorkflow(m_groupId, "workflow").getId();
+        m_cache = new LocalItemStateCache(m_localSpace, Duration.ofSeconds(2), m_nanoTime::get);
+    }
+
+    @AfterEach
+    void dispose() {
+        m_cache.dispose();
+    }
+
+    @Test
+    void testExistsAndAncestorItemIdsAreCached() throws Exception {
+        assertThat(m_cache.exists(m_workflowId)).isTrue();
+        assertThat(m_cache.getAncestorItemIds(m_workflowId)).containsExactly(m_groupId);
+        assertThat(m_cache.exists(m_workflowId)).isTrue();
+        assertThat(m_cache.getAncestorItemIds(m_groupId)).isEmpty();
+
+        verify(m_localSpace, times(1)).getAncestorItemIds(m_workflowId);
+    }
+
+    @Test
+    void testUnchangedItemIsRevalidatedWithoutDeterminingAncestors() throws Exception {
+        assertThat(m_cache.getAncestorItemIds(m_workflowId)).containsExactly(m_groupId);
+        m_nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+        assertThat(m_cache.getAncestorItemIds(m_workflowId)).containsExactly(m_groupId);
+
+        verify(m_localSpace, times(1)).getAncestorItemIds(m_workflowId);
+    }
+
+    @Test
+    void testExternalDeletionIsDetected() throws Exception {
+        assertThat(m_cache.exists(m_workflowId)).isTrue();
+
+        // delete the workflow group (i.e. an ancestor of the workflow) bypassing the local space
+        FileUtil.deleteRecursively(m_localSpace.toLocalAbsolutePath(m_groupId).orElseThrow().toFile());
+        // not validated again within the time-to-live
+        assertThat(m_cache.exists(m_workflowId)).isTrue();
+
+        m_nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+        assertThat(m_cache.exists(m_workflowId)).isFalse();
+        assertThat(m_cache.getAncestorItemIds(m_workflowId)).isEmpty();
+    }
+
+    @Test
+    void testRenamedAncestorIsDetected() throws Exception {
+        assertThat(m_cache.getAncestorItemIds(m_workflowId)).containsExactly(m_groupId);
+
+        m_localSpace.renameItem(m_groupId, "renamed");
+        m_nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+        assertThat(m_cache.getAncestorItemIds(m_workflowId)).containsExactly(m_groupId);
+
+        // the workflow's path changed, hence its state has been determined again
+        verify(m_localSpace, times(2)).getAncestorItemIds(m_workflowId);
+    }
+
+    @Test
+    void testInvalidate() throws Exception {
+        assertThat(m_cache.exists(m_workflowId)).isTrue();
+        m_cache.invalidate(m_workflowId);
+        assertThat(m_cache.exists(m_workflowId)).isTrue();
+
+        verify(m_localSpace, times(2)).getAncestorItemIds(m_workflowId);
+    }
+
+}
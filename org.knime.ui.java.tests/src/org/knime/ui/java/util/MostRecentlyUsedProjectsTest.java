@@ -52,7 +52,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 import org.junit.jupiter.api.Test;
 import org.knime.core.util.FileUtil;
@@ -157,6 +163,137 @@ public class MostRecentlyUsedProjectsTest {
         mruProjects.updateOriginAndName("local", "local", wfId, null, localSpace);
     }
 
+    /**
+     * Tests that the least recently used projects are dropped if the capacity is exceeded.
+     */
+    @Test
+    void testCapacity() {
+        var mruProjects = new MostRecentlyUsedProjects(3);
+        for (var i = 0; i < 5; i++) {
+            mruProjects.add(new RecentlyUsedProject("name" + i, createOrigin("pid", "sid", "iid" + i),
+                OffsetDateTime.MAX));
+        }
+        assertThat(mruProjects.getCapacity()).isEqualTo(3);
+        assertThat(mruProjects.get()).extracting(RecentlyUsedProject::name).containsExactly("name2", "name3", "name4");
+        assertThat(mruProjects.search("name0", 0, 10).totalCount()).as("evicted projects are not found").isZero();
+    }
+
+    /**
+     * Tests {@link MostRecentlyUsedProjects#search(String, int, int)}.
+     */
+    @Test
+    void testSearch() {
+        var mruProjects = new MostRecentlyUsedProjects(100);
+        var sales = new RecentlyUsedProject("Sales Report", createOrigin("pid", "sid", "iid1"), OffsetDateTime.MAX);
+        var analysis = new RecentlyUsedProject("analysis", createOrigin("pid", "sid", "iid2"), OffsetDateTime.MAX);
+        var other = new RecentlyUsedProject("Other", createOrigin("pid", "sid", "iid3"), OffsetDateTime.MAX);
+        mruProjects.add(sales);
+        mruProjects.add(analysis);
+        mruProjects.add(other);
+
+        var all = mruProjects.search("", 0, 10);
+        assertThat(all.totalCount()).isEqualTo(3);
+        assertThat(all.projects()).as("most recently used first").containsExactly(other, analysis, sales);
+
+        assertThat(mruProjects.search("rep", 0, 10).projects()).as("word prefix").containsExactly(sales);
+        assertThat(mruProjects.search("REP sal", 0, 10).projects()).as("multiple terms").containsExactly(sales);
+        assertThat(mruProjects.search("anlys", 0, 10).projects()).as("fuzzy").containsExactly(analysis);
+        assertThat(mruProjects.search("a", 0, 10).projects()).as("prefix matches before fuzzy matches")
+            .containsExactly(analysis, sales);
+
+        var page = mruProjects.search("a", 1, 1);
+        assertThat(page.totalCount()).isEqualTo(2);
+        assertThat(page.projects()).containsExactly(sales);
+        assertThat(mruProjects.search("a", 5, 1).projects()).isEmpty();
+
+        mruProjects.removeIf(p -> p.name().equals("analysis"));
+        assertThat(mruProjects.search("analysis", 0, 10).totalCount()).isZero();
+
+        mruProjects.updateOriginAndName("pid", "sid", "iid3", "Renamed", null);
+        assertThat(mruProjects.search("other", 0, 10).totalCount()).isZero();
+        assertThat(mruProjects.search("renamed", 0, 10).projects()).extracting(RecentlyUsedProject::name)
+            .containsExactly("Renamed");
+    }
+
+    /**
+     * Concurrently adds, updates, removes, reads and searches recently used projects and makes sure that no
+     * modifications get lost and that the list and its search index stay consistent.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testConcurrentModifications() throws Exception {
+        var numThreads = 8;
+        var numProjectsPerThread = 100;
+        var capacity = numThreads * numProjectsPerThread;
+        var mruProjects = new MostRecentlyUsedProjects(capacity);
+
+        // every thread adds its own projects while reading the list and messing with projects of another thread
+        runConcurrently(numThreads, threadIdx -> {
+            for (var i = 0; i < numProjectsPerThread; i++) {
+                var itemId = itemId(threadIdx, i);
+                mruProjects
+                    .add(new RecentlyUsedProject(itemId, createOrigin("pid", "sid", itemId), OffsetDateTime.MAX));
+                mruProjects.updateOriginAndName("pid", "sid", itemId((threadIdx + 1) % numThreads, i), null, null);
+                mruProjects.removeIf(p -> p.name().equals("non-existing"));
+                assertConsistent(mruProjects.get(), capacity);
+                mruProjects.search(itemId, 0, 10);
+            }
+        });
+        assertThat(mruProjects.get()).as("no lost additions").hasSize(capacity);
+        assertThat(mruProjects.search("iid", 0, capacity).totalCount()).isEqualTo(capacity);
+
+        // every thread renames and removes half of its own projects
+        runConcurrently(numThreads, threadIdx -> {
+            for (var i = 0; i < numProjectsPerThread; i++) {
+                var itemId = itemId(threadIdx, i);
+                if (i % 2 == 0) {
+                    mruProjects.removeIf(p -> p.origin().itemId().equals(itemId));
+                } else {
+                    mruProjects.updateOriginAndName("pid", "sid", itemId, "renamed " + itemId, null);
+                }
+                assertConsistent(mruProjects.get(), capacity);
+            }
+        });
+        var remaining = mruProjects.get();
+        assertThat(remaining).as("no lost removals").hasSize(capacity / 2);
+        assertThat(remaining).as("no lost updates").allMatch(p -> p.name().equals("renamed " + p.origin().itemId()));
+        assertThat(mruProjects.search("renamed", 0, capacity).projects()).as("index consistent with list")
+            .containsExactlyInAnyOrderElementsOf(remaining);
+        assertThat(mruProjects.search("iid", 0, capacity).totalCount()).isEqualTo(capacity / 2);
+    }
+
+    private static String itemId(final int threadIdx, final int i) {
+        return "iid" + threadIdx + "_" + i;
+    }
+
+    private static void assertConsistent(final List<RecentlyUsedProject> snapshot, final int capacity) {
+        assertThat(snapshot).hasSizeLessThanOrEqualTo(capacity);
+        assertThat(snapshot.stream().map(p -> p.origin().itemId()).distinct().count()).isEqualTo(snapshot.size());
+    }
+
+    private static void runConcurrently(final int numThreads, final IntConsumer task) throws Exception {
+        var executor = Executors.newFixedThreadPool(numThreads);
+        var start = new CountDownLatch(1);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (var t = 0; t < numThreads; t++) {
+                var threadIdx = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(threadIdx);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Creates a {@link Origin} instance for testing purposes.
      *
@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.exec.dataexchange.in.PortObjectInNodeFactory;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.VMFileLocker;
+import org.knime.gateway.api.util.VersionId;
+import org.knime.gateway.api.webui.entity.SpaceItemReferenceEnt.ProjectTypeEnum;
+import org.knime.gateway.impl.project.Origin;
+import org.knime.gateway.impl.project.Project;
+import org.knime.gateway.impl.project.ProjectManager;
+import org.knime.gateway.impl.project.WorkflowManagerLoader;
+import org.knime.testing.util.WorkflowManagerUtil;
+
+/**
+ * Tests {@link ProjectHibernation}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class ProjectHibernationTest {
+
+    private static final List<String> PROJECT_IDS = List.of("projectId1", "projectId2", "projectId3");
+
+    @Test
+    void testHibernateIdleProjects() {
+        var pm = ProjectManager.getInstance();
+        addAndLoadProject(pm, "projectId1", true);
+        addAndLoadProject(pm, "projectId2", true);
+        addAndLoadProject(pm, "projectId3", false);
+        pm.setProjectActive("projectId2");
+
+        var clearedWorkflowStates = new ArrayList<String>();
+        var hibernation = new ProjectHibernation(pm, clearedWorkflowStates::add, Duration.ofMinutes(10), 0, () -> 0,
+            Runnable::run);
+        var now = Instant.now();
+        assertThat(hibernation.hibernateProjects(now)).isEmpty();
+        // neither the active nor the unsaved project are hibernated
+        assertThat(hibernation.hibernateProjects(now.plus(Duration.ofMinutes(10)))).containsExactly("projectId1");
+        assertThat(pm.getProject("projectId1").orElseThrow().getWorkflowManagerIfLoaded()).isEmpty();
+        assertThat(pm.getProject("projectId2").orElseThrow().getWorkflowManagerIfLoaded()).isPresent();
+        assertThat(pm.getProject("projectId3").orElseThrow().getWorkflowManagerIfLoaded()).isPresent();
+        assertThat(hibernation.isHibernated("projectId1")).isTrue();
+        assertThat(clearedWorkflowStates).containsExactly("projectId1");
+
+        // hibernated projects are re-loaded on demand
+        hibernation.releaseLock("projectId1");
+        assertThat(pm.getProject("projectId1").orElseThrow()
+            .getFromCacheOrLoadWorkflowManager(VersionId.currentState())).isPresent();
+        hibernation.reloaded("projectId1", Duration.ofMillis(20));
+        assertThat(hibernation.isHibernated("projectId1")).isFalse();
+        var statistics = hibernation.getStatistics();
+        assertThat(statistics.hibernations()).isEqualTo(1);
+        assertThat(statistics.reclaimedBytes()).isPositive();
+        assertThat(statistics.reloads()).isEqualTo(1);
+        assertThat(statistics.averageReloadMillis()).isEqualTo(20);
+    }
+
+    @Test
+    void testHibernateLeastRecentlyActiveProjectIfOverHeapBudget() {
+        var pm = ProjectManager.getInstance();
+        addAndLoadProject(pm, "projectId1", true);
+        addAndLoadProject(pm, "projectId2", true);
+        addAndLoadProject(pm, "projectId3", true);
+
+        var usedHeap = new AtomicLong();
+        var hibernation = new ProjectHibernation(pm, projectId -> {
+        }, Duration.ZERO, 100, usedHeap::get, Runnable::run);
+        var now = Instant.now();
+        for (var i = 0; i < PROJECT_IDS.size(); i++) {
+            pm.setProjectActive(PROJECT_IDS.get(i));
+            assertThat(hibernation.hibernateProjects(now.plusSeconds(i))).isEmpty();
+        }
+
+        // one project per check, the least recently active one first
+        usedHeap.set(200);
+        assertThat(hibernation.hibernateProjects(now.plusSeconds(10))).containsExactly("projectId1");
+        assertThat(hibernation.hibernateProjects(now.plusSeconds(20))).containsExactly("projectId2");
+        assertThat(hibernation.hibernateProjects(now.plusSeconds(30))).isEmpty();
+        assertThat(hibernation.getStatistics().hibernations()).isEqualTo(2);
+    }
+
+    @Test
+    void testLockIsReleasedAsSoonAsHibernatedProjectIsRemoved() {
+        var pm = ProjectManager.getInstance();
+        addAndLoadProject(pm, "projectId1", true);
+        var workflowDir = pm.getProject("projectId1").orElseThrow().getWorkflowManagerIfLoaded().orElseThrow()
+            .getContextV2().getExecutorInfo().getLocalWorkflowPath().toFile();
+        var hibernation = new ProjectHibernation(pm, projectId -> {
+        }, Duration.ofMinutes(10), 0, () -> 0, Runnable::run);
+        var now = Instant.now();
+        hibernation.hibernateProjects(now);
+        assertThat(hibernation.hibernateProjects(now.plus(Duration.ofMinutes(10)))).containsExactly("projectId1");
+        assertThat(VMFileLocker.isLockedForVM(workflowDir)).isTrue();
+
+        // not only with the next check, the workflow might be re-opened (as another project) right away
+        pm.removeProject("projectId1");
+        hibernation.projectRemoved("projectId1");
+        assertThat(VMFileLocker.isLockedForVM(workflowDir)).isFalse();
+        assertThat(hibernation.isHibernated("projectId1")).isFalse();
+    }
+
+    private static void addAndLoadProject(final ProjectManager pm, final String projectId, final boolean saved) {
+        pm.addProject(Project.builder() //
+            .setWfmLoader(WorkflowManagerLoader.providingOnlyCurrentState(() -> createWorkflow(saved))) //
+            .setOrigin(new Origin("local", "local", projectId, ProjectTypeEnum.WORKFLOW)) //
+            .setId(projectId) //
+            .build());
+        pm.getProject(projectId).orElseThrow().getFromCacheOrLoadWorkflowManager(VersionId.currentState());
+    }
+
+    private static WorkflowManager createWorkflow(final boolean saved) {
+        try {
+            var wfm = WorkflowManagerUtil.createEmptyWorkflow();
+            WorkflowManagerUtil.createAndAddNode(wfm, new PortObjectInNodeFactory());
+            if (saved) {
+                wfm.save(wfm.getContextV2().getExecutorInfo().getLocalWorkflowPath().toFile(), new ExecutionMonitor(),
+                    true);
+            }
+            return wfm;
+        } catch (Exception e) { // NOSONAR
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    void removeProjects() {
+        PROJECT_IDS.forEach(ProjectManager.getInstance()::removeProject);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.knime.gateway.api.webui.entity.SpaceItemReferenceEnt.ProjectTypeEnum;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+
+/**
+ * Tests {@link SpaceMetadataCache}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class SpaceMetadataCacheTest {
+
+    private static final String PROVIDER = "provider";
+
+    @Test
+    void testLookupsAreCachedUntilExpired() throws Exception {
+        var nanoTime = new AtomicLong();
+        var cache = new SpaceMetadataCache(Duration.ofSeconds(10), nanoTime::get);
+        var space = mockSpace("space");
+        when(space.getItemName("item")).thenReturn("name");
+        when(space.toKnimeUrl("item")).thenReturn(URI.create("knime://space/name"));
+
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("name");
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("name");
+        assertThat(cache.toKnimeUrl(PROVIDER, space, "item")).isEqualTo(URI.create("knime://space/name"));
+        assertThat(cache.toKnimeUrl(PROVIDER, space, "item")).isEqualTo(URI.create("knime://space/name"));
+        verify(space, times(1)).getItemName("item");
+        verify(space, times(1)).toKnimeUrl("item");
+
+        nanoTime.set(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("name");
+        verify(space, times(2)).getItemName("item");
+    }
+
+    @Test
+    void testInvalidate() throws Exception {
+        var cache = new SpaceMetadataCache(Duration.ofSeconds(10), () -> 0);
+        var space = mockSpace("space");
+        var otherSpace = mockSpace("otherSpace");
+        when(space.getItemName("item")).thenReturn("name");
+        when(otherSpace.getItemName("item")).thenReturn("otherName");
+
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("name");
+        assertThat(cache.getItemName(PROVIDER, otherSpace, "item")).isEqualTo("otherName");
+        cache.invalidate(PROVIDER, "space");
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("name");
+        assertThat(cache.getItemName(PROVIDER, otherSpace, "item")).isEqualTo("otherName");
+        verify(space, times(2)).getItemName("item");
+        verify(otherSpace, times(1)).getItemName("item");
+    }
+
+    @Test
+    void testSpacesWithSameIdOfDifferentProvidersAreDistinguished() throws Exception {
+        var cache = new SpaceMetadataCache(Duration.ofSeconds(10), () -> 0);
+        var space = mockSpace("space");
+        var otherProvidersSpace = mockSpace("space");
+        when(space.getItemName("item")).thenReturn("name", "renamed");
+        when(otherProvidersSpace.getItemName("item")).thenReturn("otherName");
+
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("name");
+        assertThat(cache.getItemName("otherProvider", otherProvidersSpace, "item")).isEqualTo("otherName");
+        cache.invalidate(PROVIDER, "space");
+        assertThat(cache.getItemName(PROVIDER, space, "item")).isEqualTo("renamed");
+        assertThat(cache.getItemName("otherProvider", otherProvidersSpace, "item")).isEqualTo("otherName");
+        verify(otherProvidersSpace, times(1)).getItemName("item");
+    }
+
+    @Test
+    void testLocalSpaceIsNotCached() throws Exception {
+        var cache = new SpaceMetadataCache(Duration.ofSeconds(10), () -> 0);
+        var localSpace = mock(LocalSpace.class);
+        when(localSpace.getItemName("item")).thenReturn("name", "renamed");
+        when(localSpace.toKnimeUrl("item")).thenReturn(URI.create("knime://LOCAL/name"),
+            URI.create("knime://LOCAL/renamed"));
+
+        assertThat(cache.getItemName(PROVIDER, localSpace, "item")).isEqualTo("name");
+        assertThat(cache.getItemName(PROVIDER, localSpace, "item")).isEqualTo("renamed");
+        assertThat(cache.toKnimeUrl(PROVIDER, localSpace, "item")).isEqualTo(URI.create("knime://LOCAL/name"));
+        assertThat(cache.toKnimeUrl(PROVIDER, localSpace, "item")).isEqualTo(URI.create("knime://LOCAL/renamed"));
+    }
+
+    @Test
+    void testUnknownProjectTypeIsNotCached() throws Exception {
+        var cache = new SpaceMetadataCache(Duration.ofSeconds(10), () -> 0);
+        var space = mockSpace("space");
+        when(space.getProjectType("item")).thenReturn(Optional.empty(), Optional.of(ProjectTypeEnum.WORKFLOW));
+
+        assertThat(cache.getProjectType(PROVIDER, space, "item")).isEmpty();
+        assertThat(cache.getProjectType(PROVIDER, space, "item")).contains(ProjectTypeEnum.WORKFLOW);
+        assertThat(cache.getProjectType(PROVIDER, space, "item")).contains(ProjectTypeEnum.WORKFLOW);
+        verify(space, times(2)).getProjectType("item");
+    }
+
+    @Test
+    void testNoCache() throws Exception {
+        var cache = SpaceMetadataCache.noCache();
+        var space = mockSpace("space");
+        when(space.getItemName("item")).thenReturn("name");
+
+        cache.getItemName(PROVIDER, space, "item");
+        cache.getItemName(PROVIDER, space, "item");
+        verify(space, times(2)).getItemName("item");
+    }
+
+    private static Space mockSpace(final String id) {
+        var space = mock(Space.class);
+        when(space.getId()).thenReturn(id);
+        return space;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.PathUtils;
+
+/**
+ * Tests {@link WorkflowSizeEstimator}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class WorkflowSizeEstimatorTest {
+
+    @Test
+    void testEstimate() throws Exception {
+        var workflowDir = PathUtils.createTempDir("size_estimate");
+        write(workflowDir.resolve("workflow.knime"), 10);
+        write(workflowDir.resolve("workflow.svg"), 5);
+
+        var node1 = workflowDir.resolve("Table Creator (#1)");
+        write(node1.resolve("settings.xml"), 100);
+        write(node1.resolve("port_1/data.zip"), 5_000);
+        write(node1.resolve("internal/internals.xml.gz"), 300);
+
+        var metanode = workflowDir.resolve("Metanode (#2)");
+        write(metanode.resolve("workflow.knime"), 20);
+        var nestedNode = metanode.resolve("Column Filter (#3)");
+        write(nestedNode.resolve("settings.xml"), 50);
+        write(nestedNode.resolve("filestore/0/file"), 700);
+
+        var estimate = WorkflowSizeEstimator.estimate(workflowDir);
+        assertThat(estimate.workflow()).isEqualTo(15);
+        assertThat(estimate.nodes()).extracting(WorkflowSizeEstimator.NodeSize::path).containsExactly(
+            "Table Creator (#1)", "Metanode (#2)/Column Filter (#3)", "Metanode (#2)");
+        assertThat(estimate.nodes().get(0))
+            .isEqualTo(new WorkflowSizeEstimator.NodeSize("Table Creator (#1)", 5_000, 300, 100, 0));
+        assertThat(estimate.nodes().get(1))
+            .isEqualTo(new WorkflowSizeEstimator.NodeSize("Metanode (#2)/Column Filter (#3)", 700, 0, 50, 0));
+        assertThat(estimate.nodes().get(2).settings()).isEqualTo(20);
+        assertThat(estimate.total()).isEqualTo(15 + 5_400 + 750 + 20);
+
+        // changes to a (saved) node are picked up
+        write(node1.resolve("port_1/data.zip"), 1_000);
+        // the node's settings are re-written whenever the node is saved
+        Files.setLastModifiedTime(node1.resolve("settings.xml"), FileTime.from(Instant.now().plusSeconds(10)));
+        assertThat(WorkflowSizeEstimator.estimate(workflowDir).total()).isEqualTo(15 + 1_400 + 750 + 20);
+    }
+
+    private static void write(final Path file, final int numBytes) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[numBytes]);
+    }
+
+}
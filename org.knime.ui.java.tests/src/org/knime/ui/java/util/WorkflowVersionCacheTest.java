@@ -0,0 +1,104 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.knime.gateway.api.util.VersionId;
+
+/**
+ * Tests {@link WorkflowVersionCache}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+class WorkflowVersionCacheTest {
+
+    @Test
+    void testVersionsAreDisposedWhenExceedingTheBudget() {
+        // sizes are 'estimated' right away, but only after the activated version has been processed
+        var cache = new WorkflowVersionCache(250, Runnable::run);
+        var disposed = new ArrayList<String>();
+        BiConsumer<String, VersionId> dispose = (p, v) -> disposed.add(p + ":" + v);
+        var v1 = VersionId.parse("1");
+        var v2 = VersionId.parse("2");
+        var v3 = VersionId.parse("3");
+
+        cache.versionActivated("p1", VersionId.currentState(), false, () -> 1_000, (p, v) -> false, dispose);
+        cache.versionActivated("p1", v1, false, () -> 100, (p, v) -> false, dispose);
+        cache.versionActivated("p2", v1, false, () -> 100, (p, v) -> false, dispose);
+        cache.versionActivated("p1", v1, true, () -> 100, (p, v) -> false, dispose);
+        // the current state isn't tracked
+        assertThat(cache.getSize()).isEqualTo(200);
+        assertThat(disposed).isEmpty();
+
+        // the size of a newly loaded version is only taken into account from the next activation on
+        cache.versionActivated("p1", v2, false, () -> 100, (p, v) -> false, dispose);
+        assertThat(cache.getSize()).isEqualTo(300);
+        assertThat(disposed).isEmpty();
+
+        // the least recently activated version is disposed
+        cache.versionActivated("p1", v3, false, () -> 100, (p, v) -> false, dispose);
+        assertThat(disposed).containsExactly("p2:" + v1);
+
+        // active versions are never disposed
+        cache.versionActivated("p1", v3, true, () -> 100, (p, v) -> p.equals("p1") && (v.equals(v1) || v.equals(v3)),
+            dispose);
+        assertThat(disposed).containsExactly("p2:" + v1, "p1:" + v2);
+        assertThat(cache.getSize()).isEqualTo(200);
+        assertThat(cache.getStatistics()).isEqualTo(new WorkflowVersionCache.Statistics(2, 4, 2));
+
+        cache.projectRemoved("p1");
+        assertThat(cache.getSize()).isZero();
+    }
+
+}
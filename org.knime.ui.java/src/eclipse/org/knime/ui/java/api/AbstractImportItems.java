@@ -78,7 +78,7 @@ abstract class AbstractImportItems {
     /**
      * @return the ids of the imported items or {@code null} if the import failed
      */
-    String[] importItems(final Space space, final String itemId)
+    String[] importItems(final String spaceProviderId, final Space space, final String itemId)
         throws NetworkException, LoggedOutException, ServiceCallException {
         // Get file paths of files to import
         var dialog = getFileDialog();
@@ -91,21 +91,23 @@ abstract class AbstractImportItems {
         var srcPaths = Arrays.stream(fileNames).map(baseDir::resolve).toList();
 
         // Check for name collisions and solve them
-        var collisionHandling = checkForNameCollisionsAndSuggestSolution(space, itemId, srcPaths).orElse(null);
+        var collisionHandling =
+            checkForNameCollisionsAndSuggestSolution(spaceProviderId, space, itemId, srcPaths).orElse(null);
         if (collisionHandling == null) {
             return null; // NOSONAR
         }
 
         // Attempt to import files
-        var importedSpaceItems = DesktopAPUtil.runWithProgress(itemId, LOGGER, //
+        var result = DesktopAPUtil.runWithProgress(itemId, LOGGER, //
             monitor -> {
                 // TODO NXT-3938 React to workflow load exceptions
                 return importItems(monitor, space, itemId, srcPaths, collisionHandling);
             }) //
-            .orElse(Collections.emptyList());
+            .orElse(new ParallelTransfer.Result<>(Collections.emptyList(), Collections.emptyList()));
+        var importedSpaceItems = result.transferred();
 
         if (importedSpaceItems.size() < fileNames.length) {
-            showWarningWithTitleAndMessage();
+            showWarningWithTitleAndMessage(result);
         }
 
         // Create response for the FE
@@ -120,6 +122,7 @@ abstract class AbstractImportItems {
     /**
      * Checks for name collision and prompts the user to accept suggested auto-renaming solution.
      *
+     * @param spaceProviderId the id of the provider of the surrounding space
      * @param space surrounding space
      * @param workflowGroupItemId The workflow group item ID to check
      * @param srcPaths The source paths of the items to import
@@ -127,14 +130,16 @@ abstract class AbstractImportItems {
      * @return Can be one of {@link NameCollisionHandling}, or an empty optional if no collision handling strategy is
      *         provided
      */
-    protected abstract Optional<NameCollisionHandling> checkForNameCollisionsAndSuggestSolution(Space space,
-        final String workflowGroupItemId, final List<Path> srcPaths)
+    protected abstract Optional<NameCollisionHandling> checkForNameCollisionsAndSuggestSolution(
+        String spaceProviderId, Space space, final String workflowGroupItemId, final List<Path> srcPaths)
         throws NetworkException, LoggedOutException, ServiceCallException;
 
     /**
      * Shows a warning if the import was not complete.
+     *
+     * @param result the result of the import, including the items that couldn't be imported (if known)
      */
-    protected abstract void showWarningWithTitleAndMessage();
+    protected abstract void showWarningWithTitleAndMessage(ParallelTransfer.Result<SpaceItemEnt> result);
 
     /**
      * The function to run with progress to import the items
@@ -145,8 +150,8 @@ abstract class AbstractImportItems {
      * @param srcPaths The source paths of the items to import
      * @param collisionHandling The name collision handling to use
      *
-     * @return A list of space item entities that were imported
+     * @return the space item entities that were imported and the items that couldn't be imported
      */
-    protected abstract List<SpaceItemEnt> importItems(IProgressMonitor monitor, Space space, String workflowGroupItemId,
+    protected abstract ParallelTransfer.Result<SpaceItemEnt> importItems(IProgressMonitor monitor, Space space, String workflowGroupItemId,
         List<Path> srcPaths, final NameCollisionHandling collisionHandling);
 }
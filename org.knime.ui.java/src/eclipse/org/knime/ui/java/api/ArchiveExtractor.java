@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.ui.java.util.DesktopAPUtil;
+
+/**
+ * Extracts the root item of a workflow (group) archive ({@code .knwf}, {@code .knar}) into a directory, inflating the
+ * (independent) file entries in parallel.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+final class ArchiveExtractor {
+
+    /**
+     * System property to configure the maximum number of archive entries extracted in parallel.
+     */
+    static final String EXTRACTION_PARALLELISM_PROPERTY = "org.knime.ui.archive_extraction.parallelism";
+
+    private static final int DEFAULT_EXTRACTION_PARALLELISM =
+        Math.min(8, Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+    private static final long CANCEL_CHECK_INTERVAL_MS = 100;
+
+    private record FileEntry(ZipEntry entry, Path target) {
+    }
+
+    private ArchiveExtractor() {
+        // utility
+    }
+
+    /**
+     * @return the configured maximum number of archive entries extracted in parallel
+     */
+    static int getParallelism() {
+        return Math.max(1, Integer.getInteger(EXTRACTION_PARALLELISM_PROPERTY, DEFAULT_EXTRACTION_PARALLELISM));
+    }
+
+    /**
+     * Extracts all entries below the given root item into the destination directory. All directories are created
+     * upfront, the files are then inflated in parallel, each into a file pre-allocated with the entry's size.
+     *
+     * @param zipFile the archive
+     * @param rootName the name of the root item of the archive, see {@link NameCollisionChecker#getRootNames}
+     * @param destDir the (existing) directory to extract the root item's content into
+     * @param parallelism the maximum number of files inflated at the same time
+     * @param monitor to report progress to and to check for cancellation
+     * @return the extracted directories that are neither a workflow nor part of one (i.e. workflow groups), including
+     *         the destination directory itself if applicable
+     * @throws IOException if the archive couldn't be read, the files couldn't be written or an entry points outside
+     *             of the destination directory
+     * @throws CanceledExecutionException if the monitor has been canceled
+     */
+    static List<Path> extract(final ZipFile zipFile, final String rootName, final Path destDir,
+        final int parallelism, final IProgressMonitor monitor) throws IOException, CanceledExecutionException {
+        final var normalizedDestDir = destDir.toAbsolutePath().normalize();
+        final var dirs = new TreeSet<Path>();
+        dirs.add(normalizedDestDir);
+        final var workflowDirs = new ArrayList<Path>();
+        final var files = new ArrayList<FileEntry>();
+        final var entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            final var entry = entries.nextElement();
+            final var relativePath = getPathBelowRoot(entry.getName(), rootName);
+            if (relativePath == null) {
+                continue;
+            }
+            final var target = normalizedDestDir.resolve(relativePath).normalize();
+            if (!target.startsWith(normalizedDestDir)) {
+                throw new IOException(
+                    "Archive entry '%s' points outside of the destination".formatted(entry.getName()));
+            }
+            if (entry.isDirectory()) {
+                dirs.add(target);
+            } else {
+                files.add(new FileEntry(entry, target));
+                dirs.add(target.getParent());
+                final var fileName = target.getFileName().toString();
+                if (WorkflowPersistor.WORKFLOW_FILE.equals(fileName)
+                    || WorkflowPersistor.TEMPLATE_FILE.equals(fileName)) {
+                    workflowDirs.add(target.getParent());
+                }
+            }
+        }
+
+        for (final var dir : dirs) {
+            Files.createDirectories(dir);
+        }
+        extractFiles(zipFile, files, parallelism, monitor);
+
+        return dirs.stream() //
+            .filter(dir -> workflowDirs.stream().noneMatch(dir::startsWith)) //
+            .toList();
+    }
+
+    /**
+     * @return the path of the entry relative to the root item, {@code null} if the entry isn't below the root item
+     */
+    private static String getPathBelowRoot(final String entryName, final String rootName) {
+        var start = 0;
+        while (start < entryName.length() && entryName.charAt(start) == '/') {
+            start++;
+        }
+        final var end = start + rootName.length();
+        if (!entryName.startsWith(rootName, start) || end >= entryName.length() || entryName.charAt(end) != '/') {
+            return null;
+        }
+        final var relativePath = entryName.substring(end + 1);
+        return relativePath.isEmpty() ? null : relativePath;
+    }
+
+    private static void extractFiles(final ZipFile zipFile, final List<FileEntry> files, final int parallelism,
+        final IProgressMonitor monitor) throws IOException, CanceledExecutionException {
+        monitor.beginTask("Extracting %d files".formatted(files.size()), files.size());
+        final var pool =
+            DesktopAPUtil.newWorkerPool("Archive-Extraction", Math.max(1, Math.min(parallelism, files.size())));
+        final var completionService = new ExecutorCompletionService<FileEntry>(pool);
+        try {
+            for (final var file : files) {
+                completionService.submit(() -> {
+                    extractFile(zipFile, file);
+                    return file;
+                });
+            }
+            for (var numDone = 0; numDone < files.size(); numDone++) {
+                final var file = takeNext(completionService, monitor);
+                monitor.worked(1);
+                monitor.subTask(file.entry().getName());
+            }
+        } finally {
+            pool.shutdownNow();
+            monitor.done();
+        }
+    }
+
+    private static FileEntry takeNext(final ExecutorCompletionService<FileEntry> completionService,
+        final IProgressMonitor monitor) throws IOException, CanceledExecutionException {
+        try {
+            while (!monitor.isCanceled()) {
+                final var future = completionService.poll(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (future != null) {
+                    return future.get();
+                }
+            }
+            throw new CanceledExecutionException("Extraction canceled");
+        } catch (InterruptedException e) { // NOSONAR
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Extraction interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void extractFile(final ZipFile zipFile, final FileEntry file) throws IOException {
+        final var entry = file.entry();
+        try (final var in = zipFile.getInputStream(entry);
+                final var out = new RandomAccessFile(file.target().toFile(), "rw")) {
+            if (entry.getSize() > 0) {
+                // pre-allocate the file such that it doesn't need to grow while being written
+                out.setLength(entry.getSize());
+            }
+            final var channel = out.getChannel();
+            in.transferTo(Channels.newOutputStream(channel));
+            out.setLength(channel.position());
+        }
+        if (entry.getLastModifiedTime() != null) {
+            Files.setLastModifiedTime(file.target(), entry.getLastModifiedTime());
+        }
+    }
+
+}
@@ -94,14 +94,15 @@ final class CloseProject {
     }
 
     /**
-     * Closes all projects for the given ids, no matter whether they are dirty or not. If there is no project for a
-     * given id, it will be ignored.
+     * Closes all projects for the given ids, no matter whether they are dirty or not. Pending asynchronous saves are
+     * completed first. If there is no project for a given id, it will be ignored.
      *
      * @param projectIds the ids of the projects to close
      */
     static void closeProjects(final Iterable<String> projectIds) {
         var projectManager = DesktopAPI.getDeps(ProjectManager.class);
         for (var projectId : projectIds) {
+            SaveProject.awaitPendingSave(projectId);
             projectManager.removeProject(projectId);
         }
     }
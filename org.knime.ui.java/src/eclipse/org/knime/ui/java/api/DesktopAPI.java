@@ -51,10 +51,13 @@ package org.knime.ui.java.api;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -82,10 +85,15 @@ import org.knime.gateway.impl.webui.spaces.SpaceProvidersManager;
 import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 import org.knime.gateway.json.util.ObjectMapperUtil;
 import org.knime.product.rcp.intro.WelcomeAPEndpoint;
+import org.knime.ui.java.persistence.AppStateSnapshot;
 import org.knime.ui.java.profile.UserProfile;
 import org.knime.ui.java.util.ExampleProjects;
+import org.knime.ui.java.util.LocalItemStateCache;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
 import org.knime.ui.java.util.ProgressReporter;
+import org.knime.ui.java.util.ProjectHibernation;
+import org.knime.ui.java.util.SpaceMetadataCache;
+import org.knime.ui.java.util.WorkflowVersionCache;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -138,6 +146,15 @@ public final class DesktopAPI {
         return spaceProvidersManager.getSpaceProviders(SpaceProvidersManager.Key.defaultKey());
     }
 
+    /**
+     * @return the {@link SpaceMetadataCache} for the Desktop-API context or, if there is none, a 'cache' that passes
+     *         all look-ups to the space
+     */
+    static SpaceMetadataCache getSpaceMetadata() {
+        final var spaceMetadata = getDeps(SpaceMetadataCache.class);
+        return spaceMetadata == null ? SpaceMetadataCache.noCache() : spaceMetadata;
+    }
+
     /**
      * @throws NoSuchElementException If the space provider could not be found
      */
@@ -172,6 +189,25 @@ public final class DesktopAPI {
 
     private static final Map<Class<?>, Object> DEPENDENCIES = new HashMap<>();
 
+    /**
+     * The project managers notifying {@link #projectRemoved(String)}. A project manager outlives the re-initialization
+     * of the desktop API (e.g. on a perspective switch), hence the listener is registered only once per project manager
+     * and always notifies the dependencies injected at that time.
+     */
+    private static final Set<ProjectManager> PROJECT_MANAGERS_LISTENED_TO =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Signals changes to the open projects (e.g. opened, closed, activated) to the app state snapshot. Registered with
+     * the app state updater while the dependencies are injected (the snapshot outlives a re-initialization).
+     */
+    private static final Runnable APP_STATE_CHANGED_LISTENER = () -> {
+        var appStateSnapshot = getDeps(AppStateSnapshot.class);
+        if (appStateSnapshot != null) {
+            appStateSnapshot.projectsChanged();
+        }
+    };
+
     private static final String DESKTOP_API_FUNCTION_RESULT_EVENT_NAME = "DesktopAPIFunctionResultEvent";
 
     /**
@@ -262,10 +298,15 @@ public final class DesktopAPI {
      * @param mruProjects
      * @param toastService
      * @param localSpace
+     * @param localItemStates
      * @param welcomeAPEndpoint
      * @param exampleProjects
      * @param userProfile
      * @param progressReporter
+     * @param projectHibernation
+     * @param spaceMetadata
+     * @param appStateSnapshot
+     * @param versionCache
      * @throws IllegalStateException if the dependencies have been already injected
      */
     @SuppressWarnings({"java:S107", "JavadocDeclaration"}) // Parameter count
@@ -280,10 +321,15 @@ public final class DesktopAPI {
         final MostRecentlyUsedProjects mruProjects, //
         final ToastService toastService, //
         final LocalSpace localSpace, //
+        final LocalItemStateCache localItemStates, //
         final WelcomeAPEndpoint welcomeAPEndpoint, //
         final ExampleProjects exampleProjects, //
         final UserProfile userProfile, //
-        final ProgressReporter progressReporter) {
+        final ProgressReporter progressReporter, //
+        final ProjectHibernation projectHibernation, //
+        final SpaceMetadataCache spaceMetadata, //
+        final AppStateSnapshot appStateSnapshot, //
+        final WorkflowVersionCache versionCache) {
         if (areDependenciesInjected()) {
             throw new IllegalStateException("Desktop API dependencies are already injected");
         }
@@ -299,10 +345,30 @@ public final class DesktopAPI {
         }
         injectDependency(mruProjects);
         injectDependency(localSpace);
+        injectDependency(localItemStates);
         DEPENDENCIES.put(WelcomeAPEndpoint.class, welcomeAPEndpoint);
         injectDependency(exampleProjects);
         injectDependency(userProfile);
         injectDependency(progressReporter);
+        injectDependency(projectHibernation);
+        injectDependency(spaceMetadata);
+        DEPENDENCIES.put(AppStateSnapshot.class, appStateSnapshot);
+        injectDependency(versionCache);
+        appStateUpdater.addAppStateChangedListener(APP_STATE_CHANGED_LISTENER);
+        if (PROJECT_MANAGERS_LISTENED_TO.add(projectManager)) {
+            projectManager.addProjectRemovedListener(DesktopAPI::projectRemoved);
+        }
+    }
+
+    private static void projectRemoved(final String projectId) {
+        var versionCache = getDeps(WorkflowVersionCache.class);
+        if (versionCache != null) {
+            versionCache.projectRemoved(projectId);
+        }
+        var projectHibernation = getDeps(ProjectHibernation.class);
+        if (projectHibernation != null) {
+            projectHibernation.projectRemoved(projectId);
+        }
     }
 
     static void injectDependency(final UserProfile userProfile) {
@@ -327,6 +393,42 @@ public final class DesktopAPI {
         DEPENDENCIES.put(LocalSpace.class, localSpace);
     }
 
+    /**
+     * Add individual dependency for testing purposes.
+     *
+     * @param projectHibernation
+     */
+    static void injectDependency(final ProjectHibernation projectHibernation) {
+        DEPENDENCIES.put(ProjectHibernation.class, projectHibernation);
+    }
+
+    /**
+     * Add individual dependency for testing purposes.
+     *
+     * @param spaceMetadata
+     */
+    static void injectDependency(final SpaceMetadataCache spaceMetadata) {
+        DEPENDENCIES.put(SpaceMetadataCache.class, spaceMetadata);
+    }
+
+    /**
+     * Add individual dependency for testing purposes.
+     *
+     * @param versionCache
+     */
+    static void injectDependency(final WorkflowVersionCache versionCache) {
+        DEPENDENCIES.put(WorkflowVersionCache.class, versionCache);
+    }
+
+    /**
+     * Add individual dependency for testing purposes.
+     *
+     * @param localItemStates
+     */
+    static void injectDependency(final LocalItemStateCache localItemStates) {
+        DEPENDENCIES.put(LocalItemStateCache.class, localItemStates);
+    }
+
     /**
      * Add individual dependency for testing purposes.
      *
@@ -387,6 +489,26 @@ public final class DesktopAPI {
      * Cleans-up the injected dependencies in case the desktop API is not used anymore.
      */
     public static void disposeDependencies() {
+        var appStateUpdater = getDeps(AppStateUpdater.class);
+        if (appStateUpdater != null) {
+            appStateUpdater.removeAppStateChangedListener(APP_STATE_CHANGED_LISTENER);
+        }
+        var localItemStates = getDeps(LocalItemStateCache.class);
+        if (localItemStates != null) {
+            localItemStates.dispose();
+        }
+        var projectHibernation = getDeps(ProjectHibernation.class);
+        if (projectHibernation != null) {
+            projectHibernation.dispose();
+        }
+        var spaceMetadata = getDeps(SpaceMetadataCache.class);
+        if (spaceMetadata != null) {
+            spaceMetadata.dispose();
+        }
+        var versionCache = getDeps(WorkflowVersionCache.class);
+        if (versionCache != null) {
+            versionCache.dispose();
+        }
         DEPENDENCIES.clear();
     }
 
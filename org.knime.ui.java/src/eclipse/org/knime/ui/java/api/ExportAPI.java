@@ -85,7 +85,7 @@ final class ExportAPI {
     static boolean exportSpaceItem(final String spaceProviderId, final String spaceId, final String itemId)
         throws GatewayException {
         final var space = DesktopAPI.getSpace(spaceProviderId, spaceId);
-        final var success = openExportWizard(space, itemId);
+        final var success = openExportWizard(spaceProviderId, space, itemId);
         if (success) {
             NodeTimer.GLOBAL_TIMER.incWorkflowExport();
         }
@@ -93,16 +93,18 @@ final class ExportAPI {
     }
 
     /**
+     * @param spaceProviderId id of the provider of the space
      * @param space space that contains the item to export
      * @param itemId id of the item to export
      *
      * @return true if the legacy workbench dialog has not been exited via "Cancel"
      * @throws ServiceCallException if the export fails
      */
-    static boolean openExportWizard(final Space space, final String itemId) throws ServiceCallException {
+    static boolean openExportWizard(final String spaceProviderId, final Space space, final String itemId)
+        throws ServiceCallException {
         final var workbench = PlatformUI.getWorkbench();
         final var shell = workbench.getModalDialogShellProvider().getShell();
-        final var itemUri = space.toKnimeUrl(itemId);
+        final var itemUri = DesktopAPI.getSpaceMetadata().toKnimeUrl(spaceProviderId, space, itemId);
         return workbench.getDisplay().syncCall(() -> {
             final var exportWizard = new WorkflowExportWizard();
             final var mountId = itemUri.getHost();
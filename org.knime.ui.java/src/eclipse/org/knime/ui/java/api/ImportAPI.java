@@ -91,7 +91,7 @@ final class ImportAPI {
         throws GatewayException {
 
         final var space = DesktopAPI.getSpace(spaceProviderId, spaceId);
-        final var itemIds = IMPORT_WORKFLOWS.importItems(space, itemId);
+        final var itemIds = IMPORT_WORKFLOWS.importItems(spaceProviderId, space, itemId);
         if (itemIds != null && itemIds.length > 0) {
             NodeTimer.GLOBAL_TIMER.incWorkflowImport();
         }
@@ -109,7 +109,7 @@ final class ImportAPI {
         throws GatewayException {
 
         final var space = DesktopAPI.getSpace(spaceProviderId, spaceId);
-        return IMPORT_FILES.importItems(space, itemId);
+        return IMPORT_FILES.importItems(spaceProviderId, space, itemId);
     }
 
     /**
@@ -138,7 +138,7 @@ final class ImportAPI {
         final String projectId, final String workflowId, final double x, final double y) throws GatewayException {
 
         var space = DesktopAPI.getSpace(spaceProviderId, spaceId);
-        var uri = space.toKnimeUrl(itemId);
+        var uri = DesktopAPI.getSpaceMetadata().toKnimeUrl(spaceProviderId, space, itemId);
         var isRemoteLocation = !SpaceProvider.LOCAL_SPACE_PROVIDER_ID.equals(spaceProviderId);
         return importComponent(projectId, workflowId, uri, isRemoteLocation, x, y);
     }
@@ -49,7 +49,6 @@
 package org.knime.ui.java.api;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,6 +77,13 @@ import org.knime.ui.java.util.DesktopAPUtil;
  */
 class ImportFiles extends AbstractImportItems {
 
+    /**
+     * System property to configure the maximum number of files imported in parallel.
+     */
+    static final String FILE_IMPORT_PARALLELISM_PROPERTY = "org.knime.ui.file_import.parallelism";
+
+    private static final int DEFAULT_FILE_IMPORT_PARALLELISM = 4;
+
     private static final NodeLogger LOGGER = NodeLogger.getLogger(ImportFiles.class);
 
     @Override
@@ -86,8 +92,8 @@ class ImportFiles extends AbstractImportItems {
     }
 
     @Override
-    protected Optional<NameCollisionHandling> checkForNameCollisionsAndSuggestSolution(final Space space,
-        final String workflowGroupItemId, final List<Path> srcPaths)
+    protected Optional<NameCollisionHandling> checkForNameCollisionsAndSuggestSolution(final String spaceProviderId,
+        final Space space, final String workflowGroupItemId, final List<Path> srcPaths)
         throws NetworkException, LoggedOutException, ServiceCallException {
 
         try {
@@ -96,16 +102,20 @@ class ImportFiles extends AbstractImportItems {
             if (nameCollisions.isEmpty()) {
                 return Optional.of(NameCollisionHandling.NOOP);
             } else {
-                return NameCollisionChecker.openDialogToSelectCollisionHandling(space, workflowGroupItemId,
-                    nameCollisions, UsageContext.IMPORT);
+                return NameCollisionChecker.openDialogToSelectCollisionHandling(spaceProviderId, space,
+                    workflowGroupItemId, nameCollisions, UsageContext.IMPORT);
             }
         } catch (final MutableServiceCallException e) {
             throw e.toGatewayException("Failed to import file(s)");
         }
     }
 
+    /**
+     * Imports the files concurrently (up to {@value #FILE_IMPORT_PARALLELISM_PROPERTY} at the same time). Files that
+     * can't be imported don't affect the others.
+     */
     @Override
-    protected List<SpaceItemEnt> importItems(final IProgressMonitor monitor, final Space space,
+    protected ParallelTransfer.Result<SpaceItemEnt> importItems(final IProgressMonitor monitor, final Space space,
         final String workflowGroupItemId, final List<Path> srcPaths,
         final Space.NameCollisionHandling collisionHandling) {
         String name;
@@ -116,32 +126,38 @@ class ImportFiles extends AbstractImportItems {
             name = "unknown";
         }
 
-        monitor.beginTask(String.format("Importing %d files into \"%s\"", srcPaths.size(), name),
-            IProgressMonitor.UNKNOWN);
-        final List<SpaceItemEnt> importedSpaceItems = new ArrayList<>();
-
-        for (final var srcPath : srcPaths) {
-            try {
-                importedSpaceItems.add(space.importFile(srcPath, workflowGroupItemId, collisionHandling, monitor));
-            } catch (GatewayException e) { // TODO NXT-3938 react to workflow load exceptions
-                LOGGER.error(String.format("Could not import <%s>", srcPath), e);
-                return null;
-            } catch (MutableServiceCallException e) {
-                LOGGER.error(String.format("Could not import <%s>", srcPath), e.toGatewayException("Import failed"));
-                return null;
-            } catch (CanceledExecutionException e) {
-                LOGGER.error(String.format("Canceled not import <%s>", srcPath), e);
-                return null;
-            }
+        final var parallelism =
+            Math.max(1, Integer.getInteger(FILE_IMPORT_PARALLELISM_PROPERTY, DEFAULT_FILE_IMPORT_PARALLELISM));
+        return ParallelTransfer.run( //
+            String.format("Importing %d files into \"%s\"", srcPaths.size(), name), //
+            srcPaths, //
+            srcPath -> srcPath.getFileName().toString(), //
+            (srcPath, fileMonitor) -> importFile(space, srcPath, workflowGroupItemId, collisionHandling, fileMonitor),
+            parallelism, //
+            monitor);
+    }
 
+    private static SpaceItemEnt importFile(final Space space, final Path srcPath, final String workflowGroupItemId,
+        final Space.NameCollisionHandling collisionHandling, final IProgressMonitor monitor)
+        throws GatewayException, CanceledExecutionException {
+        try {
+            return space.importFile(srcPath, workflowGroupItemId, collisionHandling, monitor);
+        } catch (MutableServiceCallException e) {
+            // TODO NXT-3938 react to workflow load exceptions
+            throw e.toGatewayException("Import failed");
         }
-        monitor.done();
-        return importedSpaceItems;
     }
 
     @Override
-    protected void showWarningWithTitleAndMessage() {
-        DesktopAPUtil.showWarning("File import", "Not all selected files could be imported");
+    protected void showWarningWithTitleAndMessage(final ParallelTransfer.Result<SpaceItemEnt> result) {
+        final var failures = result.failures();
+        if (failures.isEmpty()) {
+            DesktopAPUtil.showWarning("File import", "Not all selected files could be imported");
+        } else {
+            DesktopAPUtil.showWarning("File import",
+                String.format("%d of %d files could not be imported:%n%s", failures.size(),
+                    failures.size() + result.transferred().size(), result.failureSummary()));
+        }
     }
 
 }
@@ -49,13 +49,19 @@
 package org.knime.ui.java.api;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.swt.SWT;
@@ -65,6 +71,7 @@ import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.util.FileUtil;
 import org.knime.core.ui.util.SWTUtilities;
 import org.knime.gateway.api.service.GatewayException;
 import org.knime.gateway.api.webui.entity.SpaceItemEnt;
@@ -101,8 +108,8 @@ class ImportWorkflows extends AbstractImportItems {
 
 
     @Override
-    protected Optional<NameCollisionHandling> checkForNameCollisionsAndSuggestSolution(final Space space,
-        final String workflowGroupItemId, final List<Path> srcPaths)
+    protected Optional<NameCollisionHandling> checkForNameCollisionsAndSuggestSolution(final String spaceProviderId,
+        final Space space, final String workflowGroupItemId, final List<Path> srcPaths)
         throws NetworkException, LoggedOutException, ServiceCallException {
 
         var archiveFilePath = srcPaths.get(0); // There can only be one
@@ -114,15 +121,15 @@ class ImportWorkflows extends AbstractImportItems {
             if (nameCollisions.isEmpty()) {
                 return Optional.of(Space.NameCollisionHandling.NOOP);
             }
-            return NameCollisionChecker.openDialogToSelectCollisionHandling(space, workflowGroupItemId, nameCollisions,
-                UsageContext.IMPORT);
+            return NameCollisionChecker.openDialogToSelectCollisionHandling(spaceProviderId, space,
+                workflowGroupItemId, nameCollisions, UsageContext.IMPORT);
         } catch (final MutableServiceCallException e) { // NOSONAR
             throw e.toGatewayException("Failed to import workflow(s)");
         }
     }
 
     @Override
-    protected List<SpaceItemEnt> importItems(final IProgressMonitor monitor, final Space space,
+    protected ParallelTransfer.Result<SpaceItemEnt> importItems(final IProgressMonitor monitor, final Space space,
         final String workflowGroupItemId, final List<Path> srcPaths,
         final Space.NameCollisionHandling collisionHandling) {
 
@@ -140,7 +147,7 @@ class ImportWorkflows extends AbstractImportItems {
             name = "unknown";
         }
         monitor.beginTask(String.format("Importing %d files into %s", srcPaths.size(), name), IProgressMonitor.UNKNOWN);
-        List<SpaceItemEnt> importedSpaceItems;
+        ParallelTransfer.Result<SpaceItemEnt> result;
         try {
             // Since this has `knime-workbench` dependencies, we cannot run it in `knime-gateway`.
             // So we create a consumer here and pass it.
@@ -150,27 +157,113 @@ class ImportWorkflows extends AbstractImportItems {
                     MetaInfoFile.createOrGetMetaInfoFileForDirectory(destPath.toFile(), false);
                 }
             };
-            var importedItem = space.importWorkflowOrWorkflowGroup(archiveFilePath, workflowGroupItemId,
-                createMetaInfoFileFor, collisionHandling, monitor);
-            importedSpaceItems = Collections.singletonList(importedItem);
-        } catch (final GatewayException e) {
+            var importedItem = space instanceof LocalSpace localSpace
+                && collisionHandling != NameCollisionHandling.OVERWRITE //
+                    ? importIntoLocalSpace(localSpace, archiveFilePath, workflowGroupItemId, createMetaInfoFileFor,
+                        collisionHandling, monitor)
+                    : null;
+            if (importedItem == null) {
+                importedItem = space.importWorkflowOrWorkflowGroup(archiveFilePath, workflowGroupItemId,
+                    createMetaInfoFileFor, collisionHandling, monitor);
+            }
+            result = new ParallelTransfer.Result<>(Collections.singletonList(importedItem), Collections.emptyList());
+        } catch (final GatewayException | IOException e) {
             LOGGER.error(String.format("Could not import <%s>", archiveFilePath), e);
-            importedSpaceItems = Collections.emptyList();
+            result = failed(archiveFilePath, e.getMessage());
         } catch (final MutableServiceCallException e) { // NOSONAR
-            LOGGER.error(String.format("Could not import <%s>", archiveFilePath),
-                e.toGatewayException("Import failed"));
-            importedSpaceItems = Collections.emptyList();
+            final var gatewayException = e.toGatewayException("Import failed");
+            LOGGER.error(String.format("Could not import <%s>", archiveFilePath), gatewayException);
+            result = failed(archiveFilePath, gatewayException.getMessage());
         } catch (CanceledExecutionException e) {
             LOGGER.error(String.format("Cancelled not import <%s>", archiveFilePath), e);
-            importedSpaceItems = Collections.emptyList();
+            result = failed(archiveFilePath, "Canceled");
         }
         monitor.done();
-        return importedSpaceItems;
+        return result;
+    }
+
+    /**
+     * Imports the archive into the local space by extracting it in parallel right into the destination workflow
+     * group. Overwriting existing items is left to the space itself.
+     *
+     * The result is meant to be indistinguishable from {@link Space#importWorkflowOrWorkflowGroup}: the item is named
+     * after the archive, renamed the way the space does it (the items of a local space being the files in the group
+     * directory) and rejected if the name is already taken. The item id is assigned by the space when listing the
+     * destination group, as for any other item that appears on disk.
+     *
+     * @return the imported item or {@code null} if the archive has to be imported via the space instead (e.g. because
+     *         it doesn't have a single root item)
+     */
+    private static SpaceItemEnt importIntoLocalSpace(final LocalSpace localSpace, final Path archiveFilePath,
+        final String workflowGroupItemId, final Consumer<Path> createMetaInfoFileFor,
+        final NameCollisionHandling collisionHandling, final IProgressMonitor monitor)
+        throws IOException, CanceledExecutionException, NetworkException, LoggedOutException,
+        MutableServiceCallException {
+        final var groupDir = localSpace.toLocalAbsolutePath(workflowGroupItemId).orElse(null);
+        if (groupDir == null) {
+            return null;
+        }
+        var name = KNWF_KNAR_FILE_EXTENSION.matcher(archiveFilePath.getFileName().toString()).replaceAll("").trim();
+        try (final var zipFile = new ZipFile(archiveFilePath.toFile())) {
+            final var rootNames = NameCollisionChecker.getRootNames(zipFile, 2);
+            if (rootNames.size() != 1) {
+                return null;
+            }
+            final var rootName = rootNames.get(0);
+            final var isWorkflow = zipFile.getEntry(rootName + '/' + WorkflowPersistor.WORKFLOW_FILE) != null
+                || zipFile.getEntry(rootName + '/' + WorkflowPersistor.TEMPLATE_FILE) != null;
+            if (collisionHandling == NameCollisionHandling.AUTORENAME) {
+                // checked right before the import since the collision check might be outdated after the user's
+                // selection; a single item is imported, hence nothing to reserve the name against
+                name = Space.generateUniqueSpaceItemName(existingName -> Files.exists(groupDir.resolve(existingName)),
+                    name, isWorkflow);
+            }
+            final var destDir = groupDir.resolve(name);
+            if (Files.exists(destDir)) {
+                throw itemAlreadyExists(name);
+            }
+
+            // extract into a hidden sibling first such that an incomplete import never shows up in the space
+            final var tmpDir = Files.createTempDirectory(groupDir, ".import_");
+            try {
+                final var groupDirs =
+                    ArchiveExtractor.extract(zipFile, rootName, tmpDir, ArchiveExtractor.getParallelism(), monitor);
+                groupDirs.forEach(createMetaInfoFileFor);
+                Files.move(tmpDir, destDir, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) { // NOSONAR
+                // created concurrently after the check above
+                throw itemAlreadyExists(name);
+            } finally {
+                if (Files.exists(tmpDir)) {
+                    FileUtil.deleteRecursively(tmpDir.toFile());
+                }
+            }
+        }
+        final var importedName = name;
+        return localSpace.listWorkflowGroup(workflowGroupItemId).getItems().stream() //
+            .filter(item -> importedName.equals(item.getName())) //
+            .findFirst() //
+            .orElseThrow(() -> new IOException("Imported item '%s' not found".formatted(importedName)));
+    }
+
+    private static MutableServiceCallException itemAlreadyExists(final String name) {
+        return new MutableServiceCallException(
+            "An item named '%s' already exists in the destination folder".formatted(name), false, null);
+    }
+
+    private static ParallelTransfer.Result<SpaceItemEnt> failed(final Path archiveFilePath, final String message) {
+        return new ParallelTransfer.Result<>(Collections.emptyList(),
+            List.of(new ParallelTransfer.Failure(archiveFilePath.getFileName().toString(), message)));
     }
 
     @Override
-    protected void showWarningWithTitleAndMessage() {
-        DesktopAPUtil.showWarning("Workflow import", "Not all selected workflows could be imported");
+    protected void showWarningWithTitleAndMessage(final ParallelTransfer.Result<SpaceItemEnt> result) {
+        if (result.failures().isEmpty()) {
+            DesktopAPUtil.showWarning("Workflow import", "Not all selected workflows could be imported");
+        } else {
+            DesktopAPUtil.showWarning("Workflow import",
+                String.format("The workflow could not be imported:%n%s", result.failureSummary()));
+        }
     }
 
 }
@@ -106,6 +106,10 @@ final class Locator {
      * A valid destination for a copy or move operation
      */
     public sealed interface Destination permits Space, Item {
+        String providerId();
+
+        String spaceId();
+
         String itemId();
 
         static Destination of(final String providerId, final String spaceId, final String itemId) {
@@ -51,23 +51,33 @@ package org.knime.ui.java.api;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
-import org.eclipse.core.runtime.IPath;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.SWT;
 import org.knime.core.ui.util.SWTUtilities;
 import org.knime.core.util.Pair;
+import org.knime.gateway.api.webui.entity.SpaceItemEnt;
 import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
 import org.knime.gateway.api.webui.service.util.ServiceExceptions.LoggedOutException;
 import org.knime.gateway.api.webui.service.util.ServiceExceptions.NetworkException;
 import org.knime.gateway.impl.webui.spaces.Space;
 import org.knime.gateway.impl.webui.spaces.Space.NameCollisionHandling;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+import org.knime.ui.java.util.DesktopAPUtil;
 
 /**
  * Utility methods to checks for name collisions and handling option selection.
@@ -84,12 +94,107 @@ final class NameCollisionChecker {
         MOVE
     }
 
+    /**
+     * System property to configure the maximum number of source item names resolved in parallel.
+     */
+    static final String NAME_RESOLUTION_PARALLELISM_PROPERTY = "org.knime.ui.name_resolution.parallelism";
+
+    private static final int DEFAULT_NAME_RESOLUTION_PARALLELISM = 8;
+
+    /**
+     * Shared by all name resolutions such that threads are re-used across operations.
+     */
+    private static final ExecutorService NAME_RESOLUTION_POOL = DesktopAPUtil.newWorkerPool("Name-Resolution",
+        Math.max(1, Integer.getInteger(NAME_RESOLUTION_PARALLELISM_PROPERTY, DEFAULT_NAME_RESOLUTION_PARALLELISM)));
+
     private NameCollisionChecker() {
     }
 
+    /**
+     * The names of the items contained in a workflow group. They are listed once, i.e. with a single request, such
+     * that all checks of an operation (e.g. for all items to copy or for all candidates of
+     * {@link Space#generateUniqueSpaceItemName(Predicate, String, boolean)}) don't need a round trip each. An
+     * operation should hence use a single instance for both, the collision check and the generation of unique names.
+     * <p>
+     * Names are compared case-insensitively: remote spaces might not distinguish names by case and treating them as
+     * colliding can at most lead to an unnecessary rename. Hence, the collision checks of this class only use a listing
+     * for multiple names in a remote space; a single name and the names in the {@link LocalSpace} (whose file system
+     * might well distinguish names by case) are checked via {@link Space#containsItemWithName(String, String)}.
+     */
+    static final class ExistingNames implements Predicate<String> {
+
+        private final Set<String> m_names;
+
+        private ExistingNames(final Set<String> names) {
+            m_names = names;
+        }
+
+        /**
+         * Lists the given workflow group.
+         *
+         * @param space surrounding space
+         * @param workflowGroupItemId the workflow group ID
+         * @return the names of the items currently contained in the workflow group
+         * @throws LoggedOutException
+         * @throws NetworkException
+         * @throws MutableServiceCallException
+         */
+        static ExistingNames of(final Space space, final String workflowGroupItemId)
+            throws NetworkException, LoggedOutException, MutableServiceCallException {
+            return new ExistingNames(space.listWorkflowGroup(workflowGroupItemId).getItems().stream() //
+                .map(SpaceItemEnt::getName) //
+                .map(ExistingNames::normalize) //
+                .collect(Collectors.toCollection(HashSet::new)));
+        }
+
+        /**
+         * @param names the names of the items contained in a workflow group
+         * @return the given names
+         */
+        static ExistingNames of(final Collection<String> names) {
+            return new ExistingNames(
+                names.stream().map(ExistingNames::normalize).collect(Collectors.toCollection(HashSet::new)));
+        }
+
+        private static String normalize(final String name) {
+            return name.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * @return {@code true} if an item with the given name exists in the workflow group (or has been reserved)
+         */
+        @Override
+        public boolean test(final String name) {
+            return m_names.contains(normalize(name));
+        }
+
+        /**
+         * Determines a name that neither exists in the workflow group nor has been reserved before and reserves it,
+         * such that multiple items written to the group in one operation get distinct names.
+         *
+         * @param name the desired name
+         * @param isWorkflow whether the item is a workflow, see
+         *            {@link Space#generateUniqueSpaceItemName(Predicate, String, boolean)}
+         * @return the desired name if it's still free, otherwise the desired name with a suffix
+         */
+        String reserveUniqueName(final String name, final boolean isWorkflow) {
+            final var uniqueName = Space.generateUniqueSpaceItemName(this, name, isWorkflow);
+            m_names.add(normalize(uniqueName));
+            return uniqueName;
+        }
+
+        /**
+         * @return all the given names that already exist in the workflow group, in the given order
+         */
+        List<String> filter(final List<String> names) {
+            return names.stream().filter(this).toList();
+        }
+    }
+
     /**
      * Checks for name collisions before something is written to the destination workflow group.
      *
+     * @param spaceProviderId the id of the provider of the surrounding space
      * @param space surrounding space
      * @param destWorkflowGroupItemId The destination workflow group ID
      * @param itemIds The list of source item IDs
@@ -98,13 +203,12 @@ final class NameCollisionChecker {
      * @throws NetworkException
      * @throws MutableServiceCallException
      */
-    static List<String> checkForNameCollisions(final Space space, final String destWorkflowGroupItemId,
-        final Object[] itemIds) throws NetworkException, LoggedOutException, MutableServiceCallException {
-        final List<String> itemNames = new ArrayList<>();
-        for (final var id : itemIds) {
-            itemNames.add(space.getItemName(id.toString()));
-        }
-        return checkForNameCollisions(space, destWorkflowGroupItemId, itemNames.stream());
+    static List<String> checkForNameCollisions(final String spaceProviderId, final Space space,
+        final String destWorkflowGroupItemId, final Object[] itemIds)
+        throws NetworkException, LoggedOutException, MutableServiceCallException {
+        final var itemNames =
+            getItemNames(spaceProviderId, space, Stream.of(itemIds).map(Object::toString).toList());
+        return checkNamesForCollisions(space, destWorkflowGroupItemId, itemNames);
     }
 
     /**
@@ -120,9 +224,29 @@ final class NameCollisionChecker {
      */
     static List<String> checkForNameCollisions(final Space space, final String destWorkflowGroupItemId,
         final Stream<String> itemNames) throws NetworkException, LoggedOutException, MutableServiceCallException {
+        return checkNamesForCollisions(space, destWorkflowGroupItemId, itemNames.toList());
+    }
 
+    /**
+     * Checks for name collisions before something is written to a workflow group, using the already listed names of
+     * the group's items, e.g. to subsequently generate unique names from the very same names.
+     *
+     * @param existingNames the names of the items in the destination workflow group
+     * @param itemNames the names of the items to write
+     * @return List of already existing names
+     */
+    static List<String> checkForNameCollisions(final ExistingNames existingNames, final Stream<String> itemNames) {
+        return existingNames.filter(itemNames.toList());
+    }
+
+    private static List<String> checkNamesForCollisions(final Space space, final String destWorkflowGroupItemId,
+        final List<String> itemNames) throws NetworkException, LoggedOutException, MutableServiceCallException {
+        if (itemNames.size() > 1 && !(space instanceof LocalSpace)) {
+            return ExistingNames.of(space, destWorkflowGroupItemId).filter(itemNames);
+        }
+        // a single check is cheaper than listing the entire workflow group; local checks are cheap anyway
         final List<String> existing = new ArrayList<>();
-        for (final String itemName : (Iterable<String>)itemNames::iterator) {
+        for (final var itemName : itemNames) {
             if (space.containsItemWithName(destWorkflowGroupItemId, itemName)) {
                 existing.add(itemName);
             }
@@ -130,9 +254,59 @@ final class NameCollisionChecker {
         return existing;
     }
 
+    /**
+     * Resolves the names of the given items, in parallel for remote spaces (using a pool shared by all operations).
+     */
+    private static List<String> getItemNames(final String spaceProviderId, final Space space,
+        final List<String> itemIds)
+        throws NetworkException, LoggedOutException, MutableServiceCallException {
+        final var spaceMetadata = DesktopAPI.getSpaceMetadata();
+        if (itemIds.size() <= 1 || space instanceof LocalSpace) {
+            final List<String> itemNames = new ArrayList<>();
+            for (final var id : itemIds) {
+                itemNames.add(spaceMetadata.getItemName(spaceProviderId, space, id));
+            }
+            return itemNames;
+        }
+        final var futures = itemIds.stream() //
+            .map(id -> NAME_RESOLUTION_POOL.submit(() -> spaceMetadata.getItemName(spaceProviderId, space, id))) //
+            .toList();
+        try {
+            final List<String> itemNames = new ArrayList<>();
+            for (final var future : futures) {
+                itemNames.add(getItemName(future));
+            }
+            return itemNames;
+        } finally {
+            // no-op for completed resolutions, stops the remaining ones if one failed
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static String getItemName(final Future<String> future)
+        throws NetworkException, LoggedOutException, MutableServiceCallException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MutableServiceCallException("Interrupted while resolving item names", false, e);
+        } catch (final ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof NetworkException networkException) {
+                throw networkException;
+            } else if (cause instanceof LoggedOutException loggedOutException) {
+                throw loggedOutException;
+            } else if (cause instanceof MutableServiceCallException serviceCallException) {
+                throw serviceCallException;
+            }
+            throw ExceptionUtils.asRuntimeException(cause);
+        }
+    }
+
     /**
      * Check for name collisions
      *
+     * @param spaceProviderId The id of the provider of the space to check in
      * @param space The space to check in
      * @param destinationItemId The item ID of the workflow group to check in
      * @param itemIds The new item ids to check whether they collide with anything already present
@@ -141,15 +315,10 @@ final class NameCollisionChecker {
      * @throws NetworkException
      * @throws MutableServiceCallException
      */
-    static boolean test(final Space space, final String destinationItemId, final List<String> itemIds)
-        throws NetworkException, LoggedOutException, MutableServiceCallException {
-        for (final var itemId : itemIds) {
-            final var itemName = space.getItemName(itemId);
-            if (space.containsItemWithName(destinationItemId, itemName)) {
-                return true;
-            }
-        }
-        return false;
+    static boolean test(final String spaceProviderId, final Space space, final String destinationItemId,
+        final List<String> itemIds) throws NetworkException, LoggedOutException, MutableServiceCallException {
+        return !checkNamesForCollisions(space, destinationItemId, getItemNames(spaceProviderId, space, itemIds))
+            .isEmpty();
     }
 
     /**
@@ -166,14 +335,8 @@ final class NameCollisionChecker {
     static List<String> checkForNameCollisions(final Space space, final String destWorkflowGroupItemId,
         final List<Path> srcPaths) throws NetworkException, LoggedOutException, MutableServiceCallException {
 
-        final List<String> existing = new ArrayList<>();
-        for (final var srcPath : srcPaths) {
-            final var itemName = srcPath.getFileName().toString();
-            if (space.containsItemWithName(destWorkflowGroupItemId, itemName)) {
-                existing.add(itemName);
-            }
-        }
-        return existing;
+        final var itemNames = srcPaths.stream().map(srcPath -> srcPath.getFileName().toString()).toList();
+        return checkNamesForCollisions(space, destWorkflowGroupItemId, itemNames);
     }
 
     /**
@@ -191,17 +354,14 @@ final class NameCollisionChecker {
         final String destWorkflowGroupItemId)
         throws NetworkException, LoggedOutException, MutableServiceCallException {
         try (final var zipFile = new ZipFile(srcPath.toFile())) {
-            final var rootNames = zipFile.stream() //
-                .map(ZipEntry::getName) // item path
-                .map(IPath::forPosix) // parse path
-                .map(path -> path.segment(0)) // get root item name
-                .collect(Collectors.toSet());
+            // two root names suffice to tell that there isn't a single item
+            final var rootNames = getRootNames(zipFile, 2);
             if (rootNames.size() != 1) {
                 throw new MutableServiceCallException(
                     "Expected single item in archive '%s', found %s".formatted(srcPath, rootNames), false,
                     null);
             }
-            final String name = rootNames.iterator().next();
+            final String name = rootNames.get(0);
             return space.containsItemWithName(destWorkflowGroupItemId, name) ? Optional.of(name) : Optional.empty();
         } catch (final IOException e) {
             throw new MutableServiceCallException(e.getMessage(), true, e)
@@ -209,6 +369,47 @@ final class NameCollisionChecker {
         }
     }
 
+    /**
+     * Determines the distinct root item names of the entries of the given archive, in the order of the archive's
+     * central directory. Stops as soon as {@code maxRootNames} names have been found such that, e.g., an archive with
+     * more than one root item is detected without looking at all of its (potentially many thousand) entries.
+     *
+     * @param zipFile the archive
+     * @param maxRootNames the maximum number of root names to determine
+     * @return the root names, at most {@code maxRootNames}
+     */
+    static List<String> getRootNames(final ZipFile zipFile, final int maxRootNames) {
+        final List<String> rootNames = new ArrayList<>(maxRootNames);
+        final var entries = zipFile.entries();
+        while (entries.hasMoreElements() && rootNames.size() < maxRootNames) {
+            final var entryName = entries.nextElement().getName();
+            var start = 0;
+            while (start < entryName.length() && entryName.charAt(start) == '/') {
+                start++;
+            }
+            if (start == entryName.length()) {
+                continue;
+            }
+            final var slash = entryName.indexOf('/', start);
+            final var end = slash < 0 ? entryName.length() : slash;
+            // compare in place, i.e. only allocate the root name if it's a new one
+            if (!containsRegion(rootNames, entryName, start, end)) {
+                rootNames.add(entryName.substring(start, end));
+            }
+        }
+        return rootNames;
+    }
+
+    private static boolean containsRegion(final List<String> names, final String str, final int start,
+        final int end) {
+        for (final var name : names) {
+            if (name.length() == end - start && str.regionMatches(start, name, 0, name.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Shows dialog to select name collision handling dialog before something is written to the destination workflow
      * group.
@@ -220,10 +421,10 @@ final class NameCollisionChecker {
      * @throws NetworkException
      * @throws MutableServiceCallException
      */
-    static Optional<NameCollisionHandling> openDialogToSelectCollisionHandling(final Space space,
-        final String workflowGroupItemId, final List<String> nameCollisions, final UsageContext context)
-        throws NetworkException, LoggedOutException, MutableServiceCallException {
-        final var groupName = space.getItemName(workflowGroupItemId);
+    static Optional<NameCollisionHandling> openDialogToSelectCollisionHandling(final String spaceProviderId,
+        final Space space, final String workflowGroupItemId, final List<String> nameCollisions,
+        final UsageContext context) throws NetworkException, LoggedOutException, MutableServiceCallException {
+        final var groupName = DesktopAPI.getSpaceMetadata().getItemName(spaceProviderId, space, workflowGroupItemId);
         return openDialogToSelectCollisionHandling(groupName, nameCollisions, context, true);
     }
 
@@ -110,12 +110,13 @@ final class OpenProject {
         final ProjectTypeEnum projectType;
         try {
             space = spaceProviders.getSpace(spaceProviderId, spaceId);
-            projectType = space.getProjectType(itemId).orElseThrow(() -> ServiceCallException.builder() //
-                .withTitle("Failed to open project") //
-                .withDetails(
-                    "The project type could not be determined. This might be due to network or file access issues.") //
-                .canCopy(false) //
-                .build());
+            projectType = DesktopAPI.getSpaceMetadata().getProjectType(spaceProviderId, space, itemId) //
+                .orElseThrow(() -> ServiceCallException.builder() //
+                    .withTitle("Failed to open project") //
+                    .withDetails("The project type could not be determined. "
+                        + "This might be due to network or file access issues.") //
+                    .canCopy(false) //
+                    .build());
         } catch (NoSuchElementException e) {
             throw ServiceCallException.builder() //
                 .withTitle("Failed to open project") //
@@ -137,7 +138,8 @@ final class OpenProject {
         } else {
             final var origin = new Origin(spaceProviderId, spaceId, itemId, projectType);
             final var progressReporter = DesktopAPI.getDeps(ProgressReporter.class);
-            project = CreateProject.createProjectFromOrigin(origin, progressReporter, space);
+            project = CreateProject.createProjectFromOrigin(origin, progressReporter, space,
+                DesktopAPI.getSpaceMetadata());
         }
 
         // already trigger loading of wfm here because we want to abort and not register the project if this fails
@@ -0,0 +1,328 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import static org.knime.ui.java.api.DesktopAPI.MAPPER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.gateway.impl.webui.service.events.EventConsumer;
+import org.knime.ui.java.util.DesktopAPUtil;
+
+/**
+ * Transfers (e.g. downloads or imports) multiple items concurrently, using a bounded number of threads. Items are
+ * transferred independently of each other, i.e. a failing item doesn't discard the items transferred successfully.
+ * <p>
+ * The progress is reported to the given progress monitor and, per item and in aggregate, via
+ * {@value #SPACE_TRANSFER_PROGRESS_EVENT_NAME}s. The completion is signaled via a
+ * {@value #SPACE_TRANSFER_FINISHED_EVENT_NAME}.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+final class ParallelTransfer {
+
+    /**
+     * Event emitted whenever the transfer of an item started or finished.
+     */
+    static final String SPACE_TRANSFER_PROGRESS_EVENT_NAME = "SpaceTransferProgressEvent";
+
+    /**
+     * Event emitted once all items have been transferred (or the transfer has been canceled).
+     */
+    static final String SPACE_TRANSFER_FINISHED_EVENT_NAME = "SpaceTransferFinishedEvent";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelTransfer.class);
+
+    private static final long CANCEL_CHECK_INTERVAL_MS = 100;
+
+    /**
+     * Transfers a single item.
+     *
+     * @param <I> the item type
+     * @param <R> the result type
+     */
+    @FunctionalInterface
+    interface ItemTransfer<I, R> {
+
+        /**
+         * @param item the item to transfer
+         * @param monitor monitor that is canceled if the entire transfer is canceled; not thread-safe
+         * @return the result of the transfer
+         * @throws Exception if the item couldn't be transferred
+         */
+        R transfer(I item, IProgressMonitor monitor) throws Exception; // NOSONAR any failure is a failed item
+    }
+
+    /**
+     * @param item the label of the item that couldn't be transferred
+     * @param message why the item couldn't be transferred
+     */
+    record Failure(String item, String message) {
+    }
+
+    /**
+     * @param transferred the results of the items transferred successfully, in the order of the items
+     * @param failures the items that couldn't be transferred, in the order of the items
+     * @param <R> the result type
+     */
+    record Result<R>(List<R> transferred, List<Failure> failures) {
+
+        /**
+         * @return a human-readable list of the failed items and the reasons
+         */
+        String failureSummary() {
+            return failures.stream() //
+                .map(f -> "- " + f.item() + ": " + f.message()) //
+                .collect(Collectors.joining("\n"));
+        }
+    }
+
+    private ParallelTransfer() {
+        // utility
+    }
+
+    /**
+     * Transfers the given items, blocking until all items have been transferred or, if the monitor has been canceled,
+     * until the items in flight have stopped. Items not started yet are skipped and reported as canceled.
+     *
+     * @param taskName the name of the entire transfer, e.g. "Downloading 3 items"
+     * @param items the items to transfer
+     * @param toLabel provides a human-readable label per item, used in the progress and failure messages
+     * @param transfer transfers a single item
+     * @param parallelism the maximum number of items transferred at the same time
+     * @param monitor to report the aggregated progress to and to check for cancellation
+     * @return the results and failures
+     */
+    static <I, R> Result<R> run(final String taskName, final List<I> items, final Function<I, String> toLabel,
+        final ItemTransfer<I, R> transfer, final int parallelism, final IProgressMonitor monitor) {
+        final var numItems = items.size();
+        final var progress = new Progress(taskName, numItems, DesktopAPI.getDeps(EventConsumer.class));
+        final var canceled = new AtomicBoolean();
+        final var itemMonitor = new NullProgressMonitor() {
+            @Override
+            public boolean isCanceled() {
+                return canceled.get();
+            }
+        };
+        final var labels = new String[numItems];
+        final var results = new Object[numItems];
+        final var failures = new Failure[numItems];
+
+        monitor.beginTask(taskName, numItems);
+        final var pool = DesktopAPUtil.newWorkerPool("Transfer", Math.max(1, Math.min(parallelism, numItems)));
+        final var completionService = new ExecutorCompletionService<Integer>(pool);
+        final var futures = new ArrayList<Future<Integer>>(numItems);
+        try {
+            for (var i = 0; i < numItems; i++) {
+                final var index = i;
+                futures.add(completionService.submit(() -> {
+                    final var item = items.get(index);
+                    labels[index] = toLabel.apply(item);
+                    progress.itemStarted(labels[index]);
+                    try {
+                        results[index] = transfer.transfer(item, itemMonitor);
+                    } catch (Exception e) { // NOSONAR
+                        if (!canceled.get()) {
+                            LOGGER.warn("Failed to transfer '" + labels[index] + "'", e);
+                        }
+                        failures[index] = new Failure(labels[index], getMessage(e));
+                    }
+                    return index;
+                }));
+            }
+            for (var numDone = 0; numDone < numItems; numDone++) {
+                final var index = takeNext(completionService, monitor);
+                if (index < 0) {
+                    canceled.set(true);
+                    // only items that haven't been started yet are dropped; items in flight are not interrupted
+                    // (which could leave them half-written) but are asked to stop via the item monitor - transfers
+                    // that don't take a monitor (e.g. Hub downloads, see SpaceAPI) always run to completion
+                    futures.forEach(f -> f.cancel(false));
+                    break;
+                }
+                monitor.worked(1);
+                monitor.subTask("%s (%d of %d)".formatted(labels[index], numDone + 1, numItems));
+                progress.itemFinished(labels[index], failures[index] == null);
+            }
+        } finally {
+            pool.shutdown();
+            awaitItemsInFlight(pool);
+            progress.finished();
+            monitor.done();
+        }
+        return toResult(items, toLabel, labels, results, failures, futures);
+    }
+
+    /**
+     * Waits for the items that are still being transferred to finish (or to stop because of the cancellation) such
+     * that the result reflects what actually ended up at the destination.
+     */
+    private static void awaitItemsInFlight(final ExecutorService pool) {
+        try {
+            while (!pool.awaitTermination(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                // keep waiting
+            }
+        } catch (InterruptedException e) { // NOSONAR
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the index of the next transferred item or -1 if the transfer has been canceled or interrupted
+     */
+    private static int takeNext(final ExecutorCompletionService<Integer> completionService,
+        final IProgressMonitor monitor) {
+        try {
+            while (!monitor.isCanceled()) {
+                final var future = completionService.poll(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (future != null) {
+                    return future.get();
+                }
+            }
+        } catch (InterruptedException e) { // NOSONAR
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // can't happen since the item tasks catch all exceptions
+            throw new IllegalStateException(e);
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I, R> Result<R> toResult(final List<I> items, final Function<I, String> toLabel,
+        final String[] labels, final Object[] results, final Failure[] failures, final List<Future<Integer>> futures) {
+        final var transferred = new ArrayList<R>();
+        final var failed = new ArrayList<Failure>();
+        for (var i = 0; i < items.size(); i++) {
+            final var future = futures.get(i);
+            if (!future.isDone() || future.isCancelled()) {
+                final var label = labels[i] == null ? toLabel.apply(items.get(i)) : labels[i];
+                failed.add(new Failure(label, "Canceled"));
+            } else if (failures[i] != null) {
+                failed.add(failures[i]);
+            } else {
+                transferred.add((R)results[i]);
+            }
+        }
+        return new Result<>(transferred, failed);
+    }
+
+    private static String getMessage(final Exception e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
+    /**
+     * Sends the progress events; thread-safe.
+     */
+    private static final class Progress {
+
+        private final String m_task;
+
+        private final int m_numItems;
+
+        private final EventConsumer m_eventConsumer;
+
+        private int m_numDone;
+
+        private int m_numFailed;
+
+        Progress(final String task, final int numItems, final EventConsumer eventConsumer) {
+            m_task = task;
+            m_numItems = numItems;
+            m_eventConsumer = eventConsumer;
+        }
+
+        synchronized void itemStarted(final String item) {
+            sendProgressEvent(item, "started");
+        }
+
+        synchronized void itemFinished(final String item, final boolean success) {
+            m_numDone++;
+            if (!success) {
+                m_numFailed++;
+            }
+            sendProgressEvent(item, success ? "finished" : "failed");
+        }
+
+        synchronized void finished() {
+            if (m_eventConsumer != null) {
+                m_eventConsumer.accept(SPACE_TRANSFER_FINISHED_EVENT_NAME, MAPPER.createObjectNode() //
+                    .put("task", m_task) //
+                    .put("numItems", m_numItems) //
+                    .put("numTransferred", m_numDone - m_numFailed) //
+                    .put("numFailed", m_numFailed));
+            }
+        }
+
+        private void sendProgressEvent(final String item, final String itemStatus) {
+            if (m_eventConsumer == null) {
+                return;
+            }
+            m_eventConsumer.accept(SPACE_TRANSFER_PROGRESS_EVENT_NAME, MAPPER.createObjectNode() //
+                .put("task", m_task) //
+                .put("item", item) //
+                .put("itemStatus", itemStatus) //
+                .put("subtask", "%s (%d of %d)".formatted(item, m_numDone, m_numItems)) //
+                .put("progress", m_numItems == 0 ? 100 : (m_numDone * 100 / m_numItems)));
+        }
+    }
+
+}
@@ -53,6 +53,7 @@ import static org.knime.ui.java.api.DesktopAPI.MAPPER;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -65,7 +66,6 @@ import java.util.stream.Collector;
 
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.widgets.Display;
-import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
@@ -79,9 +79,6 @@ import org.knime.gateway.api.service.GatewayException;
 import org.knime.gateway.api.util.VersionId;
 import org.knime.gateway.api.webui.entity.SpaceItemReferenceEnt.ProjectTypeEnum;
 import org.knime.gateway.api.webui.entity.SpaceProviderEnt;
-import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
-import org.knime.gateway.api.webui.service.util.ServiceExceptions.LoggedOutException;
-import org.knime.gateway.api.webui.service.util.ServiceExceptions.NetworkException;
 import org.knime.gateway.impl.project.Origin;
 import org.knime.gateway.impl.project.Project;
 import org.knime.gateway.impl.project.ProjectManager;
@@ -89,9 +86,15 @@ import org.knime.gateway.impl.webui.AppStateUpdater;
 import org.knime.gateway.impl.webui.entity.AppStateEntityFactory;
 import org.knime.gateway.impl.webui.spaces.SpaceProvider;
 import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+import org.knime.ui.java.persistence.AppStateSnapshot;
 import org.knime.ui.java.util.ExampleProjects;
+import org.knime.ui.java.util.LocalItemStateCache;
 import org.knime.ui.java.util.LocalSpaceUtil;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
+import org.knime.ui.java.util.MostRecentlyUsedProjects.RecentlyUsedProject;
+import org.knime.ui.java.util.ProjectHibernation;
+import org.knime.ui.java.util.WorkflowSizeEstimator;
+import org.knime.ui.java.util.WorkflowVersionCache;
 import org.knime.workbench.ui.wrapper.WrappedNodeDialog;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -150,6 +153,19 @@ final class ProjectAPI {
         return SaveProject.saveProject(projectId, false, allowPrompt);
     }
 
+    /**
+     * Saves the project workflow manager identified by a given project ID without blocking the UI. Returns immediately;
+     * the progress is reported via 'SaveProjectProgressEvent's and the result via a 'SaveProjectFinishedEvent'.
+     *
+     * @param projectId ID of the project
+     * @return {@code true} if the save has been started, {@code false} if the project is already being saved
+     */
+    @API
+    static boolean saveProjectAsync(final String projectId, final Boolean allowOverwritePrompt) {
+        var allowPrompt = allowOverwritePrompt == null ? Boolean.TRUE : allowOverwritePrompt;
+        return SaveProject.saveProjectAsync(projectId, allowPrompt);
+    }
+
     /**
      * Sets that project for the given id to active and ensures that the workflow is already loaded (in memory). And
      * loads it if not.
@@ -174,11 +190,20 @@ final class ProjectAPI {
         // Project already loaded
         if (project.getWorkflowManagerIfLoaded(version).isPresent()) {
             projectManager.setProjectActive(projectId, version);
+            updateVersionCache(project, version, true);
             appStateUpdater.updateAppState();
             return true;
         }
 
-        // Project not yet loaded, load
+        // Project not yet loaded (or hibernated), load
+        var projectHibernation = DesktopAPI.getDeps(ProjectHibernation.class);
+        var wasHibernated =
+            projectHibernation != null && version.isCurrentState() && projectHibernation.isHibernated(projectId);
+        if (wasHibernated) {
+            // the re-loaded workflow manager locks its directory itself
+            projectHibernation.releaseLock(projectId);
+        }
+        var loadStart = System.nanoTime();
         var wfm = project.getFromCacheOrLoadWorkflowManager(version).orElse(null);
         if (wfm == null) {
             // TODO NXT-3867: solution will be superseded by workflow load error handling
@@ -193,12 +218,46 @@ final class ProjectAPI {
         }
 
         // Project has just been loaded
-        trackWorkflowOpeningIfCurrentState(project, version);
+        if (wasHibernated) {
+            projectHibernation.reloaded(projectId, Duration.ofNanos(System.nanoTime() - loadStart));
+        } else {
+            trackWorkflowOpeningIfCurrentState(project, version);
+        }
         projectManager.setProjectActive(projectId, version);
+        updateVersionCache(project, version, false);
         appStateUpdater.updateAppState();
         return true;
     }
 
+    /**
+     * Must be called after the version has been set active such that it isn't disposed right away.
+     */
+    private static void updateVersionCache(final Project project, final VersionId version, final boolean wasLoaded) {
+        var versionCache = DesktopAPI.getDeps(WorkflowVersionCache.class);
+        if (version.isCurrentState() || versionCache == null) {
+            return;
+        }
+        var projectManager = DesktopAPI.getDeps(ProjectManager.class);
+        var workflowPath = project.getWorkflowManagerIfLoaded(version)
+            .map(wfm -> wfm.getContextV2().getExecutorInfo().getLocalWorkflowPath()).orElse(null);
+        versionCache.versionActivated(project.getID(), version, wasLoaded, () -> estimateSize(workflowPath, version),
+            projectManager::isActiveProjectVersion,
+            (projectId, versionToDispose) -> projectManager.getProject(projectId)
+                .ifPresent(p -> p.disposeCachedWfm(versionToDispose)));
+    }
+
+    private static long estimateSize(final Path workflowPath, final VersionId version) {
+        if (workflowPath == null) {
+            return 0;
+        }
+        try {
+            return WorkflowSizeEstimator.estimate(workflowPath).total();
+        } catch (IOException e) { // NOSONAR
+            NodeLogger.getLogger(ProjectAPI.class).debug("Size of version " + version + " couldn't be estimated", e);
+            return 0;
+        }
+    }
+
     /**
      * We understand "loading of current-state wfm" as an indication of a fresh open of a project. This could in
      * principle also be triggered by switching between versions, but currently the current-state version is always and
@@ -302,55 +361,73 @@ final class ProjectAPI {
      * Updates the list of most recently used projects and returns the updated list.
      * <p>
      * The list needs to be explicitly updated here because projects in the Local space may have been removed by other
-     * means than via AP (e.g. through OS file explorer).
+     * means than via AP (e.g. through OS file explorer). Whether local projects still exist (and their ancestors) is
+     * looked up in the {@link LocalItemStateCache} which cheaply re-validates its entries against the file system.
      *
      * @return json-serialized list of the recently used projects with the most recently used one at the bottom
      */
     @API
     static String updateAndGetMostRecentlyUsedProjects() {
         var mruProjects = DesktopAPI.getDeps(MostRecentlyUsedProjects.class);
-        var localSpace = DesktopAPI.getDeps(LocalSpace.class);
-        mruProjects.removeIf(p -> wasRemovedFromLocalSpace(p.origin(), localSpace));
+        var localItemStates = DesktopAPI.getDeps(LocalItemStateCache.class);
+        mruProjects.removeIf(p -> wasRemovedFromLocalSpace(p.origin(), localItemStates));
         return reverseList(mruProjects.get()).stream() //
-            .map(p -> MAPPER.createObjectNode() //
-                .put("name", p.name()) //
-                .put("timeUsed", p.timeUsed().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)) //
-                .set("origin", MAPPER.createObjectNode() //
-                    .put("providerId", p.origin().providerId()) //
-                    .put("spaceId", p.origin().spaceId()) //
-                    .put("itemId", p.origin().itemId()) //
-                    .put("projectType", p.origin().projectType().orElse(ProjectTypeEnum.WORKFLOW).toString()) //
-                    .set("ancestorItemIds", createAncestorItemIds(p.origin(), localSpace)) //
-                )) //
+            .map(p -> createRecentlyUsedProjectJson(p, localItemStates)) //
             .collect(arrayNodeCollector()) //
             .toPrettyString();
     }
 
-    private static boolean wasRemovedFromLocalSpace(final Origin origin, final LocalSpace localSpace) {
-        if (LocalSpaceUtil.isLocalSpace(origin.providerId(), origin.spaceId())) {
-            try {
-                return localSpace.toLocalAbsolutePath(null, origin.itemId()).isEmpty();
-            } catch (CanceledExecutionException | NetworkException // NOSONAR: We don't care about these exceptions
-                    | LoggedOutException | MutableServiceCallException ex) {
-                return true;
-            }
-        } else {
-            return false;
-        }
+    /**
+     * Searches the most recently used projects by name and, for local projects, relative path. See
+     * {@link MostRecentlyUsedProjects#search(String, int, int)} for how the matches are ordered.
+     *
+     * @param query the search query; an empty or {@code null} query matches all projects
+     * @param offset the index of the first match to return; {@code null} means 0
+     * @param limit the maximum number of matches to return; {@code null} means all
+     * @return json-serialized object with the requested page of matching projects ({@code projects}) and the total
+     *         number of matches ({@code totalCount})
+     */
+    @API
+    static String searchMostRecentlyUsedProjects(final String query, final Double offset, final Double limit) {
+        var mruProjects = DesktopAPI.getDeps(MostRecentlyUsedProjects.class);
+        var localItemStates = DesktopAPI.getDeps(LocalItemStateCache.class);
+        mruProjects.removeIf(p -> wasRemovedFromLocalSpace(p.origin(), localItemStates));
+        var result = mruProjects.search(query, //
+            offset == null ? 0 : offset.intValue(), //
+            limit == null ? Integer.MAX_VALUE : limit.intValue());
+        var res = MAPPER.createObjectNode().put("totalCount", result.totalCount());
+        res.set("projects", result.projects().stream() //
+            .map(p -> createRecentlyUsedProjectJson(p, localItemStates)) //
+            .collect(arrayNodeCollector()));
+        return res.toPrettyString();
+    }
+
+    private static JsonNode createRecentlyUsedProjectJson(final RecentlyUsedProject p,
+        final LocalItemStateCache localItemStates) {
+        return MAPPER.createObjectNode() //
+            .put("name", p.name()) //
+            .put("timeUsed", p.timeUsed().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)) //
+            .set("origin", MAPPER.createObjectNode() //
+                .put("providerId", p.origin().providerId()) //
+                .put("spaceId", p.origin().spaceId()) //
+                .put("itemId", p.origin().itemId()) //
+                .put("projectType", p.origin().projectType().orElse(ProjectTypeEnum.WORKFLOW).toString()) //
+                .set("ancestorItemIds", createAncestorItemIds(p.origin(), localItemStates)) //
+            );
+    }
+
+    private static boolean wasRemovedFromLocalSpace(final Origin origin, final LocalItemStateCache localItemStates) {
+        return LocalSpaceUtil.isLocalSpace(origin.providerId(), origin.spaceId())
+            && !localItemStates.exists(origin.itemId());
     }
 
     /**
      * @return Ancestor item IDs of the given origin if it is local, otherwise {@code null}.
      */
-    private static JsonNode createAncestorItemIds(final Origin origin, final LocalSpace localSpace) {
+    private static JsonNode createAncestorItemIds(final Origin origin, final LocalItemStateCache localItemStates) {
         if (origin.isLocal()) {
             var res = MAPPER.createArrayNode();
-            try {
-                localSpace.getAncestorItemIds(origin.itemId()).forEach(res::add);
-            } catch (final MutableServiceCallException e) {
-                throw new IllegalStateException("Could not create ancestors",
-                    e.toGatewayException("Could not create ancestors"));
-            }
+            localItemStates.getAncestorItemIds(origin.itemId()).forEach(res::add);
             return res;
         } else {
             return null;
@@ -381,11 +458,22 @@ final class ProjectAPI {
 
     /**
      * Updates infos of the reference most recently used project, such as name or relative path (in case a local project
-     * has been moved). No-op for space items that are not already part of the MRU list.
+     * has been moved). The MRU list is left untouched for space items that are not already part of it. Called after an
+     * item has been renamed or moved, hence also drops the caches the item might be part of.
      */
     @API
     static void updateMostRecentlyUsedProject(final String providerId, final String spaceId, final String itemId,
         final String newName) {
+        if (LocalSpaceUtil.isLocalSpace(providerId, spaceId)) {
+            // the project might have been moved or renamed
+            DesktopAPI.getDeps(LocalItemStateCache.class).invalidate(itemId);
+            var appStateSnapshot = DesktopAPI.getDeps(AppStateSnapshot.class);
+            if (appStateSnapshot != null) {
+                appStateSnapshot.localItemsChanged();
+            }
+        }
+        // names and locations of the renamed or moved item (and the items contained in it) changed
+        DesktopAPI.getSpaceMetadata().invalidate(providerId, spaceId);
         DesktopAPI.getDeps(MostRecentlyUsedProjects.class).updateOriginAndName(providerId, spaceId, itemId, newName,
             DesktopAPI.getDeps(LocalSpace.class));
     }
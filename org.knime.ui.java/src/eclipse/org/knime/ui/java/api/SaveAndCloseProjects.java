@@ -57,9 +57,14 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.ui.PlatformUI;
@@ -71,9 +76,15 @@ import org.knime.gateway.api.service.GatewayException;
 import org.knime.gateway.impl.project.Project;
 import org.knime.gateway.impl.project.ProjectManager;
 import org.knime.gateway.impl.webui.AppStateUpdater;
+import org.knime.ui.java.util.DesktopAPUtil;
 
 /**
  * Called save and close all the projects specified as parameter.
+ * <p>
+ * Multiple projects are saved in parallel: projects saved to the local disk and projects uploaded to Server or Hub
+ * (save plus upload) are processed by separate, bounded worker pools whose sizes can be configured via the
+ * {@value #SAVE_PARALLELISM_PROPERTY} and {@value #UPLOAD_PARALLELISM_PROPERTY} system properties, respectively. A
+ * parallelism of 1 for both restores the sequential behaviour.
  *
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
  */
@@ -81,6 +92,20 @@ public final class SaveAndCloseProjects {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(SaveAndCloseProjects.class);
 
+    /**
+     * System property to configure the maximum number of projects saved to the local disk in parallel.
+     */
+    static final String SAVE_PARALLELISM_PROPERTY = "org.knime.ui.save.parallelism";
+
+    /**
+     * System property to configure the maximum number of projects saved and uploaded to Server or Hub in parallel.
+     */
+    static final String UPLOAD_PARALLELISM_PROPERTY = "org.knime.ui.save.upload_parallelism";
+
+    private static final int DEFAULT_SAVE_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    private static final int DEFAULT_UPLOAD_PARALLELISM = 2;
+
     private SaveAndCloseProjects() {
         // utility
     }
@@ -136,6 +161,8 @@ public final class SaveAndCloseProjects {
      * @return The projects state from this function
      */
     public static State saveAndCloseProjectsInteractively(final List<String> projectIds) {
+        // pending saves might still change the dirty-state
+        projectIds.forEach(SaveProject::awaitPendingSave);
         var projectManager = ProjectManager.getInstance();
         final List<WorkflowManager> dirtyWfms = new ArrayList<>();
         for (final var id : projectIds) {
@@ -194,15 +221,56 @@ public final class SaveAndCloseProjects {
     private static void saveProjects(final String[] projectIds, final AtomicReference<Optional<String>> firstFailure,
         final IProgressMonitor monitor) {
         monitor.beginTask("Saving " + projectIds.length + " projects", projectIds.length);
-        for (var projectId : projectIds) {
-            var projectManager = ProjectManager.getInstance();
-            var projectWfm =
-                    projectManager.getProject(projectId).flatMap(Project::getWorkflowManagerIfLoaded).orElse(null);
-            var success = saveAndCloseProject(monitor, projectId, projectWfm, projectManager);
-            if (!success) {
+        var projectManager = ProjectManager.getInstance();
+        if (projectIds.length == 1) {
+            var projectId = projectIds[0];
+            var projectWfm = getWorkflowManagerIfLoaded(projectManager, projectId);
+            if (!saveAndCloseProject(monitor, projectId, projectWfm, projectManager)) {
                 firstFailure.compareAndExchange(null, Optional.of(projectId));
             }
+            return;
         }
+
+        var localPool =
+            DesktopAPUtil.newWorkerPool("Save", getParallelism(SAVE_PARALLELISM_PROPERTY, DEFAULT_SAVE_PARALLELISM));
+        var uploadPool = DesktopAPUtil.newWorkerPool("Upload",
+            getParallelism(UPLOAD_PARALLELISM_PROPERTY, DEFAULT_UPLOAD_PARALLELISM));
+        // errors are shown at once after all projects have been saved instead of one dialog per project and thread
+        var errors = new ConcurrentLinkedQueue<String>();
+        try {
+            var savedCount = new AtomicInteger();
+            var results = new ArrayList<CompletableFuture<Boolean>>(projectIds.length);
+            for (var projectId : projectIds) {
+                var projectWfm = getWorkflowManagerIfLoaded(projectManager, projectId);
+                var pool = projectWfm != null && SaveProject.isSavedToServerOrHub(projectWfm) ? uploadPool : localPool;
+                SaveProject.ErrorReporter errorReporter = (title, message, isWarning) -> errors
+                    .add((projectWfm == null ? projectId : projectWfm.getName()) + " (" + title + "): " + message);
+                results.add(CompletableFuture.supplyAsync(
+                    () -> saveProject(monitor, projectId, projectWfm, errorReporter, savedCount, projectIds.length),
+                    pool));
+            }
+            // projects are closed and failures recorded in the original order, i.e. the 'first failure' is the same as
+            // if the projects were saved one after the other
+            for (var i = 0; i < projectIds.length; i++) {
+                if (Boolean.TRUE.equals(results.get(i).exceptionally(t -> Boolean.FALSE).join())) {
+                    projectManager.removeProject(projectIds[i]);
+                } else {
+                    firstFailure.compareAndExchange(null, Optional.of(projectIds[i]));
+                }
+            }
+        } finally {
+            localPool.shutdown();
+            uploadPool.shutdown();
+        }
+        if (!errors.isEmpty()) {
+            DesktopAPUtil.showError("Saving workflows failed",
+                "Not all workflows could be saved:\n\n" + String.join("\n", errors));
+        }
+    }
+
+    private static WorkflowManager getWorkflowManagerIfLoaded(final ProjectManager projectManager,
+        final String projectId) {
+        return projectManager.getProject(projectId).flatMap(Project::getWorkflowManagerIfLoaded).orElse(null);
     }
 
     private static boolean saveAndCloseProject(final IProgressMonitor monitor, final String projectId,
@@ -213,7 +281,8 @@ public final class SaveAndCloseProjects {
         final var subMonitor = monitor.slice(0);
 
         // workflow not loaded -> nothing to save
-        final var success = (projectWfm == null || SaveProject.saveProject(subMonitor, projectWfm, false));
+        final var success = (projectWfm == null
+            || SaveProject.saveExclusively(projectId, () -> SaveProject.saveProject(subMonitor, projectWfm, false)));
         if (success) {
             projectManager.removeProject(projectId);
         }
@@ -221,6 +290,99 @@ public final class SaveAndCloseProjects {
         return success;
     }
 
+    /**
+     * Saves a single project on a worker thread. The save operation reports its progress to a {@link SubMonitor} that
+     * covers the project's share (one unit of work) of the root monitor.
+     */
+    private static boolean saveProject(final IProgressMonitor monitor, final String projectId,
+        final WorkflowManager projectWfm, final SaveProject.ErrorReporter errorReporter, final AtomicInteger savedCount,
+        final int totalCount) {
+        var projectShare = new ProjectShareMonitor(monitor, projectId);
+        var projectMonitor = SubMonitor.convert(projectShare, "Saving '" + projectId + "'", 1);
+        // workflow not loaded -> nothing to save
+        final var success = projectWfm == null || SaveProject.saveExclusively(projectId,
+            () -> SaveProject.saveProject(projectMonitor.newChild(1), projectWfm, false, true, errorReporter));
+        projectShare.done();
+        synchronized (monitor) {
+            monitor.subTask("Saved " + savedCount.incrementAndGet() + " of " + totalCount + " projects");
+        }
+        return success;
+    }
+
+    /**
+     * The share of a single project, i.e. one unit of work, of the root monitor which is shared by all worker threads.
+     * The (not thread-safe) root monitor is only accessed while holding its lock.
+     */
+    private static final class ProjectShareMonitor extends NullProgressMonitor {
+
+        private final IProgressMonitor m_root;
+
+        private final String m_projectId;
+
+        private double m_totalWork = 1;
+
+        private double m_worked;
+
+        ProjectShareMonitor(final IProgressMonitor root, final String projectId) {
+            m_root = root;
+            m_projectId = projectId;
+        }
+
+        @Override
+        public void beginTask(final String name, final int totalWork) {
+            if (totalWork > 0) {
+                m_totalWork = totalWork;
+            }
+            subTask(name);
+        }
+
+        @Override
+        public void setTaskName(final String name) {
+            subTask(name);
+        }
+
+        @Override
+        public void subTask(final String name) {
+            if (name != null && !name.isBlank()) {
+                synchronized (m_root) {
+                    m_root.subTask(name.contains(m_projectId) ? name : ("'" + m_projectId + "': " + name));
+                }
+            }
+        }
+
+        @Override
+        public void internalWorked(final double work) {
+            final var delta = Math.min(work, m_totalWork - m_worked);
+            if (delta > 0) {
+                m_worked += delta;
+                synchronized (m_root) {
+                    m_root.internalWorked(delta / m_totalWork);
+                }
+            }
+        }
+
+        @Override
+        public void worked(final int work) {
+            internalWorked(work);
+        }
+
+        @Override
+        public boolean isCanceled() {
+            synchronized (m_root) {
+                return m_root.isCanceled();
+            }
+        }
+
+        @Override
+        public void done() {
+            internalWorked(m_totalWork - m_worked);
+        }
+    }
+
+    private static int getParallelism(final String property, final int defaultParallelism) {
+        return Math.max(1, Integer.getInteger(property, defaultParallelism));
+    }
+
     /**
      * Encodes Java user dialog responses
      */
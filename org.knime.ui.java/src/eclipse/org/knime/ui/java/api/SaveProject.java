@@ -48,17 +48,27 @@
  */
 package org.knime.ui.java.api;
 
+import static org.knime.ui.java.api.DesktopAPI.MAPPER;
+
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 import org.knime.core.node.CanceledExecutionException;
@@ -66,6 +76,7 @@ import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.SubNodeContainer;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor;
 import org.knime.core.node.workflow.contextv2.HubSpaceLocationInfo;
 import org.knime.core.node.workflow.contextv2.RestLocationInfo;
 import org.knime.core.node.workflow.contextv2.WorkflowContextV2.LocationType;
@@ -81,6 +92,7 @@ import org.knime.gateway.api.webui.service.util.ServiceExceptions.NetworkExcepti
 import org.knime.gateway.impl.service.util.WorkflowManagerResolver;
 import org.knime.gateway.impl.webui.AppStateUpdater;
 import org.knime.gateway.impl.webui.ToastService;
+import org.knime.gateway.impl.webui.service.events.EventConsumer;
 import org.knime.gateway.impl.webui.spaces.Space;
 import org.knime.gateway.impl.webui.spaces.SpaceProvider;
 import org.knime.gateway.impl.webui.spaces.SpaceProvidersManager;
@@ -100,6 +112,51 @@ final class SaveProject {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(SaveProject.class);
 
+    /**
+     * Event regularly emitted while a project is saved asynchronously, see {@link #saveProjectAsync(String, boolean)}.
+     */
+    static final String SAVE_PROJECT_PROGRESS_EVENT_NAME = "SaveProjectProgressEvent";
+
+    /**
+     * Event emitted once an asynchronous save finished, see {@link #saveProjectAsync(String, boolean)}.
+     */
+    static final String SAVE_PROJECT_FINISHED_EVENT_NAME = "SaveProjectFinishedEvent";
+
+    /**
+     * The ids of the projects currently being saved, no matter whether synchronously or asynchronously.
+     */
+    private static final Set<String> PROJECTS_BEING_SAVED = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The jobs of the projects currently being saved asynchronously.
+     */
+    private static final Map<String, Job> SAVE_JOBS = new ConcurrentHashMap<>();
+
+    /**
+     * Receives the errors that occur while saving a project and that are meant to be shown to the user.
+     */
+    @FunctionalInterface
+    interface ErrorReporter {
+
+        /**
+         * Shows every error in a dialog right away.
+         */
+        ErrorReporter SHOW_DIALOG = (title, message, isWarning) -> {
+            if (isWarning) {
+                DesktopAPUtil.showWarning(title, message);
+            } else {
+                DesktopAPUtil.showError(title, message);
+            }
+        };
+
+        /**
+         * @param title the title of the error
+         * @param message the error message
+         * @param isWarning whether it's rather a warning than an error
+         */
+        void report(String title, String message, boolean isWarning);
+    }
+
     private SaveProject() {
         // utility
     }
@@ -127,7 +184,9 @@ final class SaveProject {
      */
     static boolean saveProject(final String projectId, final boolean localOnly, final boolean allowOverwritePrompt) {
         var projectWfm = WorkflowManagerResolver.get(projectId, NodeIDEnt.getRootID());
-        var wasSaveSuccessful = saveProjectWithProgressBar(projectWfm, localOnly, allowOverwritePrompt);
+        var wasSaveSuccessful = saveExclusively(projectId,
+            () -> saveProjectWithProgressBar(projectWfm, localOnly, allowOverwritePrompt),
+            () -> showAlreadyBeingSavedToast(projectWfm));
         if (wasSaveSuccessful && isExecutionInProgress(projectWfm)) {
             DesktopAPI.getDeps(ToastService.class).showToast(TypeEnum.INFO, "Workflow saved",
                 "The workflow contains executing nodes.", true);
@@ -137,6 +196,115 @@ final class SaveProject {
         return wasSaveSuccessful;
     }
 
+    /**
+     * Saves the project workflow manager identified by a given project ID in a background job, i.e. without blocking
+     * the UI thread. Only the workflow being saved is locked (by the save operation itself) such that other projects
+     * can still be edited in the meantime.
+     * <p>
+     * The progress is reported via {@value #SAVE_PROJECT_PROGRESS_EVENT_NAME}s, the completion (and whether the
+     * project was saved) via a {@value #SAVE_PROJECT_FINISHED_EVENT_NAME}.
+     *
+     * @param projectId ID of the project
+     * @param allowOverwritePrompt -
+     * @return {@code true} if the save has been started, {@code false} if the project is already being saved
+     */
+    static boolean saveProjectAsync(final String projectId, final boolean allowOverwritePrompt) {
+        var projectWfm = WorkflowManagerResolver.get(projectId, NodeIDEnt.getRootID());
+        if (!PROJECTS_BEING_SAVED.add(projectId)) {
+            showAlreadyBeingSavedToast(projectWfm);
+            return false;
+        }
+        var eventConsumer = DesktopAPI.getDeps(EventConsumer.class);
+        var appStateUpdater = DesktopAPI.getDeps(AppStateUpdater.class);
+        var toastService = DesktopAPI.getDeps(ToastService.class);
+        var job = Job.create("Saving '" + projectWfm.getName() + "'", monitor -> {
+            var wasSaveSuccessful = false;
+            try {
+                wasSaveSuccessful = saveProject(new SaveProgressMonitor(monitor, projectId, eventConsumer), projectWfm,
+                    false, allowOverwritePrompt);
+                if (wasSaveSuccessful && isExecutionInProgress(projectWfm)) {
+                    toastService.showToast(TypeEnum.INFO, "Workflow saved", "The workflow contains executing nodes.",
+                        true);
+                }
+            } finally {
+                SAVE_JOBS.remove(projectId);
+                PROJECTS_BEING_SAVED.remove(projectId);
+                // Emit a ProjectDirtyStateEvent
+                appStateUpdater.updateAppState();
+                eventConsumer.accept(SAVE_PROJECT_FINISHED_EVENT_NAME,
+                    MAPPER.createObjectNode().put("projectId", projectId).put("success", wasSaveSuccessful));
+            }
+            return Status.OK_STATUS;
+        });
+        job.setUser(false);
+        SAVE_JOBS.put(projectId, job);
+        job.schedule();
+        return true;
+    }
+
+    /**
+     * Runs the given save operation unless the project is already being saved (e.g. asynchronously), such that a
+     * project is never saved concurrently.
+     *
+     * @param projectId ID of the project
+     * @param save the save operation
+     * @return the result of the save operation or {@code false} if the project is already being saved
+     */
+    static boolean saveExclusively(final String projectId, final BooleanSupplier save) {
+        return saveExclusively(projectId, save,
+            () -> LOGGER.info("Project '" + projectId + "' is already being saved"));
+    }
+
+    /**
+     * Same as {@link #saveExclusively(String, BooleanSupplier)}, but lets the caller decide how to tell that the
+     * project is already being saved.
+     *
+     * @param ifAlreadyBeingSaved called (instead of the save operation) if the project is already being saved
+     */
+    private static boolean saveExclusively(final String projectId, final BooleanSupplier save,
+        final Runnable ifAlreadyBeingSaved) {
+        if (!PROJECTS_BEING_SAVED.add(projectId)) {
+            ifAlreadyBeingSaved.run();
+            return false;
+        }
+        try {
+            return save.getAsBoolean();
+        } finally {
+            PROJECTS_BEING_SAVED.remove(projectId);
+        }
+    }
+
+    /**
+     * Waits for a pending asynchronous save of the given project to finish, e.g. before it is closed. If called from
+     * the UI thread, the UI keeps processing events behind a busy cursor in the meantime since the save might need to
+     * prompt the user.
+     *
+     * @param projectId ID of the project
+     */
+    static void awaitPendingSave(final String projectId) {
+        var job = SAVE_JOBS.get(projectId);
+        if (job == null) {
+            return;
+        }
+        try {
+            if (Display.getCurrent() != null) {
+                PlatformUI.getWorkbench().getProgressService().busyCursorWhile(monitor -> job.join());
+            } else {
+                job.join();
+            }
+        } catch (InvocationTargetException e) {
+            LOGGER.error("Waiting for the workflow to be saved failed", e);
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the workflow to be saved");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void showAlreadyBeingSavedToast(final WorkflowManager wfm) {
+        DesktopAPI.getDeps(ToastService.class).showToast(TypeEnum.INFO, "Workflow is being saved",
+            "'" + wfm.getName() + "' is already being saved.", true);
+    }
+
     private static boolean isExecutionInProgress(final WorkflowManager wfm) {
         var state = wfm.getNodeContainerState();
         return state.isExecutionInProgress() || state.isExecutingRemotely();
@@ -167,13 +335,22 @@ final class SaveProject {
 
     static boolean saveProject(final IProgressMonitor monitor, final WorkflowManager wfm, final boolean localOnly,
         final boolean allowOverwritePrompt) {
+        return saveProject(monitor, wfm, localOnly, allowOverwritePrompt, ErrorReporter.SHOW_DIALOG);
+    }
+
+    /**
+     * @param errorReporter receives the errors to be shown to the user, e.g. to collect them instead of showing a
+     *            dialog each
+     */
+    static boolean saveProject(final IProgressMonitor monitor, final WorkflowManager wfm, final boolean localOnly,
+        final boolean allowOverwritePrompt, final ErrorReporter errorReporter) {
         // use the flag and try/catch to make sure that the workflow is also set to dirty if any exception is thrown
         var success = false;
         try {
             if (!localOnly && wfm.getContextV2().getLocationInfo() instanceof RestLocationInfo restInfo) {
-                success = saveBackToServerOrHub(monitor, wfm, restInfo, allowOverwritePrompt);
+                success = saveBackToServerOrHub(monitor, wfm, restInfo, allowOverwritePrompt, errorReporter);
             } else {
-                success = saveLocalProject(monitor, wfm);
+                success = saveLocalProject(monitor, wfm, errorReporter);
             }
         } catch (Throwable t) { // NOSONAR: Just to make sure no exception is missed
             LOGGER.error("Error occured while saving the project", t);
@@ -185,19 +362,28 @@ final class SaveProject {
         return success; // To make sure we always return something
     }
 
-    private static boolean saveLocalProject(final IProgressMonitor monitor, final WorkflowManager wfm) {
+    /**
+     * @return whether saving the given project (unless saved 'local only') also uploads it to Server or Hub
+     */
+    static boolean isSavedToServerOrHub(final WorkflowManager wfm) {
+        return wfm.getContextV2().getLocationInfo() instanceof RestLocationInfo;
+    }
+
+    private static boolean saveLocalProject(final IProgressMonitor monitor, final WorkflowManager wfm,
+        final ErrorReporter errorReporter) {
         if (wfm.isComponentProjectWFM()) {
-            return saveComponentTemplate(monitor, wfm);
+            return saveComponentTemplate(monitor, wfm, errorReporter);
         } else {
-            return saveRegularWorkflow(monitor, wfm);
+            return saveRegularWorkflow(monitor, wfm, errorReporter);
         }
     }
 
-    private static boolean saveComponentTemplate(final IProgressMonitor monitor, final WorkflowManager wfm) {
+    private static boolean saveComponentTemplate(final IProgressMonitor monitor, final WorkflowManager wfm,
+        final ErrorReporter errorReporter) {
         try {
             ((SubNodeContainer)wfm.getDirectNCParent()).saveTemplate(DesktopAPUtil.toExecutionMonitor(monitor));
         } catch (IOException | CanceledExecutionException | LockFailedException | InvalidSettingsException e) {
-            DesktopAPUtil.showWarningAndLogError("Component save attempt", "Saving the component failed", LOGGER, e);
+            logAndReport(errorReporter, "Component save attempt", "Saving the component failed", true, e);
             monitor.done();
             return false;
         }
@@ -206,18 +392,27 @@ final class SaveProject {
     }
 
     /**
-     * Save regular workflow
+     * Save regular workflow. Saving into the workflow's own location is incremental, i.e. only node containers that
+     * changed since the last save are persisted (the dirty-state is tracked by the workflow manager itself). If
+     * nothing changed at all, the save is skipped entirely.
      */
-    private static boolean saveRegularWorkflow(final IProgressMonitor monitor, final WorkflowManager wfm) {
+    private static boolean saveRegularWorkflow(final IProgressMonitor monitor, final WorkflowManager wfm,
+        final ErrorReporter errorReporter) {
         monitor.beginTask("Saving a workflow", IProgressMonitor.UNKNOWN);
         var workflowPath = wfm.getContextV2().getExecutorInfo().getLocalWorkflowPath();
 
+        if (!wfm.isDirty() && Files.exists(workflowPath.resolve(WorkflowPersistor.WORKFLOW_FILE))) {
+            LOGGER.debug("Workflow '" + wfm.getName() + "' has no unsaved changes, skipping save");
+            monitor.done();
+            return true;
+        }
+
         try {
             var exec = DesktopAPUtil.toExecutionMonitor(monitor);
             wfm.save(workflowPath.toFile(), exec, true);
         } catch (final IOException | CanceledExecutionException | LockFailedException e) {
-            DesktopAPUtil.showWarningAndLogError("Workflow save attempt",
-                "Saving the workflow didn't work: " + e.getMessage(), LOGGER, e);
+            logAndReport(errorReporter, "Workflow save attempt", "Saving the workflow didn't work: " + e.getMessage(),
+                true, e);
             monitor.done();
             return false; // Abort if saving the workflow fails
         }
@@ -227,7 +422,8 @@ final class SaveProject {
     }
 
     private static boolean saveBackToServerOrHub(final IProgressMonitor rootMonitor, final WorkflowManager wfm,
-        final RestLocationInfo remoteLocation, final boolean allowOverwritePrompt) throws GatewayException {
+        final RestLocationInfo remoteLocation, final boolean allowOverwritePrompt, final ErrorReporter errorReporter)
+        throws GatewayException {
         final var context = wfm.getContextV2();
         if (!context.isTemporyWorkflowCopyMode()) {
             throw new IllegalStateException("Can only save temporary copies to Server or Hub.");
@@ -250,7 +446,7 @@ final class SaveProject {
                 preCheckResult = checkHubUpload(mountId, hubInfo, space, allowOverwritePrompt);
             } else {
                 space = spaceProvider.getSpace(Space.ROOT_ITEM_ID);
-                preCheckResult = checkServerUpload(remoteMountpointURI);
+                preCheckResult = checkServerUpload(remoteMountpointURI, errorReporter);
             }
         } catch (final MutableServiceCallException e) {
             e.addDetails("Pre-check for upload failed.");
@@ -263,7 +459,7 @@ final class SaveProject {
 
         // selected a remote location: save + upload
         subMonitor.setTaskName("Saving local workflow");
-        saveLocalProject(subMonitor.newChild(0), wfm);
+        saveLocalProject(subMonitor.newChild(0), wfm, errorReporter);
 
         try {
             subMonitor.setTaskName(
@@ -276,11 +472,96 @@ final class SaveProject {
             return space.saveBackTo(workflowPath, remoteMountpointURI, excludeData, subMonitor);
         } catch (Exception e) { // NOSONAR
             final var message = "Failed to upload the workflow to its remote location\n(" + e.getMessage() + ")";
-            Display.getDefault().syncExec(() -> DesktopAPUtil.showAndLogError("Upload has failed", message, LOGGER, e));
+            logAndReport(errorReporter, "Upload has failed", message, false, e);
             return false;
         }
     }
 
+    /**
+     * Forwards the progress of an asynchronous save as events to the frontend (in addition to the wrapped monitor).
+     * Events are only emitted if the progress (in percent) or the (sub-)task changed.
+     */
+    private static final class SaveProgressMonitor extends ProgressMonitorWrapper {
+
+        private final String m_projectId;
+
+        private final EventConsumer m_eventConsumer;
+
+        private double m_totalWork = UNKNOWN;
+
+        private double m_worked;
+
+        private String m_task;
+
+        private String m_subTask;
+
+        private int m_lastProgress = -1;
+
+        SaveProgressMonitor(final IProgressMonitor monitor, final String projectId,
+            final EventConsumer eventConsumer) {
+            super(monitor);
+            m_projectId = projectId;
+            m_eventConsumer = eventConsumer;
+        }
+
+        @Override
+        public synchronized void beginTask(final String name, final int totalWork) {
+            super.beginTask(name, totalWork);
+            // only the outermost task determines the overall progress
+            if (m_task == null) {
+                m_task = name;
+                m_totalWork = totalWork;
+                sendEvent(true);
+            }
+        }
+
+        @Override
+        public synchronized void setTaskName(final String name) {
+            super.setTaskName(name);
+            m_task = name;
+            sendEvent(true);
+        }
+
+        @Override
+        public synchronized void subTask(final String name) {
+            super.subTask(name);
+            m_subTask = name;
+            sendEvent(true);
+        }
+
+        @Override
+        public synchronized void internalWorked(final double work) {
+            super.internalWorked(work);
+            m_worked += work;
+            sendEvent(false);
+        }
+
+        @Override
+        public synchronized void worked(final int work) {
+            internalWorked(work);
+        }
+
+        private void sendEvent(final boolean taskChanged) {
+            var progress = m_totalWork > 0 ? (int)Math.min(100, Math.round(m_worked / m_totalWork * 100)) : -1;
+            if (!taskChanged && progress == m_lastProgress) {
+                return;
+            }
+            m_lastProgress = progress;
+            var event = MAPPER.createObjectNode();
+            event.put("projectId", m_projectId);
+            if (m_task != null) {
+                event.put("task", m_task);
+            }
+            if (m_subTask != null) {
+                event.put("subtask", m_subTask);
+            }
+            if (progress >= 0) {
+                event.put("progress", progress);
+            }
+            m_eventConsumer.accept(SAVE_PROJECT_PROGRESS_EVENT_NAME, event);
+        }
+    }
+
     /**
      * Checks whether an upload to Hub can proceed, possibly prompting the user about overwriting existing items.
      */
@@ -317,14 +598,15 @@ final class SaveProject {
     /**
      * Checks whether an upload to Server can proceed, possibly prompting the user about overwriting existing items.
      */
-    private static boolean checkServerUpload(final URI mountpointUri) {
+    private static boolean checkServerUpload(final URI mountpointUri, final ErrorReporter errorReporter) {
         final var remoteStore = (RemoteExplorerFileStore)ExplorerMountTable.getFileSystem().getStore(mountpointUri);
         final var fetchedInfo = remoteStore.fetchInfo();
         if (fetchedInfo.exists()) {
             if (!fetchedInfo.isModifiable()) {
-                DesktopAPUtil.showError("Workflow not writable",
+                errorReporter.report("Workflow not writable",
                     "You don't have permissions to overwrite the workflow. Use \"Save As...\" in order to save it to "
-                        + "a different location.");
+                        + "a different location.",
+                    false);
                 return false;
             }
 
@@ -345,18 +627,25 @@ final class SaveProject {
                 } catch (final CoreException e) {
                     final var msg = "Unable to create snapshot before overwriting the workflow:\n" + e.getMessage()
                         + "\n\nUpload was canceled.";
-                    DesktopAPUtil.showAndLogError("Server Error", msg, LOGGER, e);
+                    logAndReport(errorReporter, "Server Error", msg, false, e);
                     return false;
                 }
             }
         } else {
             final var parent = remoteStore.getParent();
             if (parent == null || !parent.fetchInfo().isModifiable()) {
-                DesktopAPUtil.showError("Workflow not writable", "You don't have permissions to write into the "
-                    + "workflow's parent folder. Use \"Save As...\" in order to save it to a different location.");
+                errorReporter.report("Workflow not writable", "You don't have permissions to write into the "
+                    + "workflow's parent folder. Use \"Save As...\" in order to save it to a different location.",
+                    false);
                 return false;
             }
         }
         return true;
     }
+
+    private static void logAndReport(final ErrorReporter errorReporter, final String title, final String message,
+        final boolean isWarning, final Throwable e) {
+        LOGGER.error(title + ": " + message, e);
+        errorReporter.report(title, message, isWarning);
+    }
 }
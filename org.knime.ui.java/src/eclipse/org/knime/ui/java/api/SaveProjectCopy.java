@@ -238,8 +238,8 @@ final class SaveProjectCopy {
         throws NetworkException, LoggedOutException, MutableServiceCallException {
 
         if (localSpace.containsItemWithName(workflowGroupItemId, fileName)) {
-            return NameCollisionChecker.openDialogToSelectCollisionHandling(localSpace, workflowGroupItemId,
-                List.of(fileName), UsageContext.SAVE).orElse(null);
+            return NameCollisionChecker.openDialogToSelectCollisionHandling(SpaceProvider.LOCAL_SPACE_PROVIDER_ID,
+                localSpace, workflowGroupItemId, List.of(fileName), UsageContext.SAVE).orElse(null);
         } else {
             return NameCollisionHandling.NOOP;
         }
@@ -0,0 +1,429 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.ui.PlatformUI;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.gateway.api.service.GatewayException;
+import org.knime.gateway.api.webui.entity.ShowToastEventEnt;
+import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
+import org.knime.gateway.impl.webui.ToastService;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.Space.NameCollisionHandling;
+import org.knime.gateway.impl.webui.spaces.SpaceProvider;
+import org.knime.ui.java.api.NameCollisionChecker.ExistingNames;
+import org.knime.ui.java.api.NameCollisionChecker.UsageContext;
+import org.knime.ui.java.util.DesktopAPUtil;
+import org.knime.ui.java.util.SpaceMetadataCache;
+import org.knime.workbench.explorer.ExplorerMountTable;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
+import org.knime.workbench.explorer.filesystem.ExplorerFileSystemUtils;
+import org.knime.workbench.explorer.filesystem.LocalExplorerFileStore;
+import org.knime.workbench.explorer.filesystem.RemoteExplorerFileStore;
+import org.knime.workbench.explorer.view.AbstractContentProvider;
+
+/**
+ * Copies items between the local space and a space of a (non-Hub) server mountpoint, i.e. uploads and downloads.
+ * <p>
+ * In contrast to the Classic AP copy logic it replaces, the destination workflow group is listed once to resolve all
+ * target names and the user is asked about conflicts up front (in a single dialog). The items are then transferred by
+ * worker threads, see {@link ParallelTransfer}. Note that this doesn't free the UI: the calling (UI) thread still waits
+ * for the transfer to finish behind a modal progress dialog, just like it did with the Classic AP copy logic.
+ * <p>
+ * Items that can't be copied because of their type (e.g. a workflow group overwriting a workflow) or because the
+ * overwritten workflow is in use are skipped with a warning and, as with the Classic AP copy logic, don't make the copy
+ * fail.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+final class ServerTransfer {
+
+    /**
+     * System property to configure the maximum number of items up- or downloaded in parallel. Defaults to 1, i.e.
+     * items are transferred one after the other, since the server client isn't known to be thread-safe.
+     */
+    static final String SERVER_TRANSFER_PARALLELISM_PROPERTY = "org.knime.ui.server_transfer.parallelism";
+
+    private static final int DEFAULT_SERVER_TRANSFER_PARALLELISM = 1;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ServerTransfer.class);
+
+    /**
+     * Where to copy a source item to.
+     *
+     * @param sourceName the name of the source item
+     * @param targetName the name of the item in the destination workflow group
+     * @param overwrite whether an existing item with the target name is overwritten
+     */
+    record Target(String sourceName, String targetName, boolean overwrite) {
+    }
+
+    private record Item(AbstractExplorerFileStore source, AbstractExplorerFileStore target, boolean overwrite) {
+    }
+
+    private ServerTransfer() {
+        // utility
+    }
+
+    /**
+     * Copies the given items into the destination workflow group. Either the sources or the destination are expected
+     * to be in the local space.
+     *
+     * @param sources the items to copy
+     * @param destination the workflow group to copy the items into; if it is not a workflow group, its parent
+     * @param excludeData whether to exclude the data of uploaded workflows
+     * @return {@code false} if the user canceled or all items failed to copy, {@code true} otherwise (including items
+     *         skipped because of unmet preconditions)
+     * @throws GatewayException if the items or the destination couldn't be resolved
+     * @throws MutableServiceCallException if the items or the destination couldn't be resolved
+     */
+    static boolean copy(final Locator.Siblings sources, final Locator.Destination destination,
+        final boolean excludeData) throws GatewayException, MutableServiceCallException {
+        final var spaceMetadata = DesktopAPI.getSpaceMetadata();
+        final var sourceSpace = sources.space();
+        final var destinationSpace = destination.space();
+        final var fileSystem = ExplorerMountTable.getFileSystem();
+        final var sourceStores = new ArrayList<AbstractExplorerFileStore>();
+        for (final var itemId : sources.itemIds()) {
+            sourceStores.add(fileSystem.getStore(spaceMetadata.toKnimeUrl(sources.providerId(), sourceSpace, itemId)));
+        }
+        final var destinationStore = fileSystem
+            .getStore(spaceMetadata.toKnimeUrl(destination.providerId(), destinationSpace, destination.itemId()));
+
+        // make sure that the remote mountpoint is finished loading
+        if (sourceStores.isEmpty() || !DesktopAPUtil.waitForMountpointToFinishFetching(sourceStores.get(0))
+            || !DesktopAPUtil.waitForMountpointToFinishFetching(destinationStore)) {
+            return false;
+        }
+        if (!destinationStore.fetchInfo().isWriteable()
+            || !sourceStores.stream().allMatch(AbstractExplorerFileStore::canCopy)) {
+            return false;
+        }
+        final var isUpload = sourceStores.stream().allMatch(LocalExplorerFileStore.class::isInstance)
+            && destinationStore instanceof RemoteExplorerFileStore;
+        final var isDownload = sourceStores.stream().allMatch(RemoteExplorerFileStore.class::isInstance)
+            && destinationStore instanceof LocalExplorerFileStore;
+        CheckUtils.checkState(isUpload || isDownload, "Only uploads to and downloads from a server are supported");
+        CheckUtils.checkState(isUpload || !excludeData, "Download 'without data' not implemented");
+
+        final var targetStore = resolveTargetStore(sourceStores, destinationStore);
+        if (targetStore.isEmpty() || (isUpload && !confirmUploadToPublicSpace(targetStore.get()))) {
+            return false;
+        }
+        final var target = targetStore.get();
+
+        final var sourceNames = sourceStores.stream().map(AbstractExplorerFileStore::getName).toList();
+        final var existingNames = listChildren(target);
+        final var collisions = existingNames.filter(sourceNames);
+        var collisionHandling = NameCollisionHandling.NOOP;
+        if (!collisions.isEmpty()) {
+            final var selectedHandling = NameCollisionChecker.openDialogToSelectCollisionHandling(target.getName(),
+                collisions, UsageContext.COPY, true);
+            if (selectedHandling.isEmpty()) {
+                return false;
+            }
+            collisionHandling = selectedHandling.get();
+        }
+        final var targets = resolveTargets(sourceNames, existingNames, collisionHandling,
+            i -> isWorkflow(spaceMetadata, sources.providerId(), sourceSpace, sources.itemIds().get(i)));
+
+        final var items = new ArrayList<Item>();
+        for (var i = 0; i < targets.size(); i++) {
+            final var resolved = targets.get(i);
+            items.add(new Item(sourceStores.get(i), target.getChild(resolved.targetName()), resolved.overwrite()));
+        }
+        return transfer(items, sources.provider(), destinationSpace, excludeData, target);
+    }
+
+    /**
+     * Determines the workflow group to copy the items into: the destination itself if it is a workflow group, its
+     * parent otherwise -- unless the content provider redirects the copy (e.g. on root level of a Hub) or the
+     * destination is contained in one of the items to copy.
+     *
+     * @return an empty optional if the items can't be or the user chose not to be copied to the destination
+     */
+    private static Optional<AbstractExplorerFileStore> resolveTargetStore(
+        final List<AbstractExplorerFileStore> sources, final AbstractExplorerFileStore destination) {
+        if (isContainedIn(destination, sources)) {
+            final var message = "Cannot copy the selected files into " + destination.getFullName()
+                + " because it is a child of the selection.";
+            LOGGER.info(message);
+            DesktopAPUtil.showError("Copy Workflow", message);
+            return Optional.empty();
+        }
+        final var checkedDestination = destination.getContentProvider().checkCopyMoveDestination(destination, sources);
+        if (checkedDestination == null) {
+            // user aborted
+            return Optional.empty();
+        }
+        return Optional.of(checkedDestination.fetchInfo().isWorkflowGroup() ? checkedDestination
+            : checkedDestination.getParent());
+    }
+
+    private static boolean isContainedIn(final AbstractExplorerFileStore store,
+        final List<AbstractExplorerFileStore> candidateAncestors) {
+        final var ancestors = new HashSet<>(candidateAncestors);
+        for (var current = store; current != null; current = current.getParent()) {
+            if (ancestors.contains(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Asks the user whether it's ok to upload into a public space if the workflow group is contained in one.
+     */
+    private static boolean confirmUploadToPublicSpace(final AbstractExplorerFileStore workflowGroup) {
+        for (var current = workflowGroup; current != null; current = current.getParent()) {
+            final var info = current.fetchInfo();
+            if (info.isSpace() && !info.isPrivateSpace()) {
+                return current.getContentProvider().showUploadWarning(current.getName()).isOK();
+            }
+        }
+        return true;
+    }
+
+    private static ExistingNames listChildren(final AbstractExplorerFileStore workflowGroup)
+        throws MutableServiceCallException {
+        try {
+            return ExistingNames.of(List.of(workflowGroup.childNames(EFS.NONE, null)));
+        } catch (CoreException e) {
+            throw new MutableServiceCallException(
+                "Failed to list the contents of \"" + workflowGroup.getFullName() + "\"", false, e);
+        }
+    }
+
+    /**
+     * Determines the target names of the items to copy. Names that don't exist in the destination are kept; the
+     * others are kept and overwritten or replaced by unique names, depending on the collision handling.
+     *
+     * @param sourceNames the names of the items to copy
+     * @param existingNames the names existing in the destination workflow group; names are reserved as resolved
+     * @param collisionHandling how to deal with names that already exist
+     * @param isWorkflow whether the source item at the given index is a workflow, only asked when renaming
+     * @return the targets, in the order of the source names
+     */
+    static List<Target> resolveTargets(final List<String> sourceNames, final ExistingNames existingNames,
+        final NameCollisionHandling collisionHandling, final IntPredicate isWorkflow) {
+        final var isColliding = sourceNames.stream().map(existingNames::test).toList();
+        // reserve the free names first such that they can't be taken by a renamed item
+        for (var i = 0; i < sourceNames.size(); i++) {
+            if (!isColliding.get(i)) {
+                existingNames.reserveUniqueName(sourceNames.get(i), false);
+            }
+        }
+        final var targets = new ArrayList<Target>();
+        for (var i = 0; i < sourceNames.size(); i++) {
+            final var sourceName = sourceNames.get(i);
+            if (isColliding.get(i) && collisionHandling == NameCollisionHandling.AUTORENAME) {
+                targets.add(new Target(sourceName,
+                    existingNames.reserveUniqueName(sourceName, isWorkflow.test(i)), false));
+            } else {
+                targets.add(new Target(sourceName, sourceName,
+                    isColliding.get(i) && collisionHandling == NameCollisionHandling.OVERWRITE));
+            }
+        }
+        return targets;
+    }
+
+    private static boolean isWorkflow(final SpaceMetadataCache spaceMetadata, final String spaceProviderId,
+        final Space space, final String itemId) {
+        try {
+            return spaceMetadata.getProjectType(spaceProviderId, space, itemId).isPresent();
+        } catch (GatewayException | MutableServiceCallException e) { // NOSONAR
+            return true;
+        }
+    }
+
+    private static boolean transfer(final List<Item> items, final SpaceProvider sourceProvider,
+        final Space destinationSpace, final boolean excludeData, final AbstractExplorerFileStore destinationStore) {
+        // overwritten local workflows must be locked and not be opened; needs to be checked in the UI thread
+        final var lockedWorkflows = new ArrayList<LocalExplorerFileStore>();
+        final var skipped = new ArrayList<ParallelTransfer.Failure>();
+        final var itemsToTransfer = new ArrayList<Item>();
+        try {
+            for (final var item : items) {
+                final var problem = checkPreconditions(item, lockedWorkflows);
+                if (problem.isPresent()) {
+                    LOGGER.warn("Skipped copying '" + item.source().getName() + "': " + problem.get());
+                    skipped.add(new ParallelTransfer.Failure(item.source().getName(), problem.get()));
+                } else {
+                    itemsToTransfer.add(item);
+                }
+            }
+            if (!confirmOverwrite(itemsToTransfer)) {
+                return false;
+            }
+
+            final var parallelism = Math.max(1,
+                Integer.getInteger(SERVER_TRANSFER_PARALLELISM_PROPERTY, DEFAULT_SERVER_TRANSFER_PARALLELISM));
+            final var taskName = "Copying %d items to %s".formatted(items.size(), destinationStore.getFullName());
+            final var result = DesktopAPUtil.runWithProgress(taskName, LOGGER, monitor -> ParallelTransfer.run( //
+                taskName, //
+                itemsToTransfer, //
+                item -> item.source().getName(), //
+                (item, itemMonitor) -> transferItem(item, sourceProvider, destinationSpace, excludeData, itemMonitor),
+                parallelism, //
+                monitor));
+            if (result.isEmpty()) {
+                return false;
+            }
+            final var failures = result.get().failures();
+            final var problems = new ArrayList<>(skipped);
+            problems.addAll(failures);
+            final var message = "%d of %d items could not be copied:%n%s".formatted(problems.size(), items.size(),
+                new ParallelTransfer.Result<>(List.of(), problems).failureSummary());
+            if (!failures.isEmpty()) {
+                SpaceAPI.showErrorToast("Not all items could be copied", message, false);
+            } else if (!skipped.isEmpty()) {
+                DesktopAPI.getDeps(ToastService.class).showToast(ShowToastEventEnt.TypeEnum.WARNING,
+                    "Not all items could be copied", message, false);
+            }
+            // skipped items don't make the copy fail
+            return failures.isEmpty() || !result.get().transferred().isEmpty();
+        } finally {
+            ExplorerFileSystemUtils.unlockWorkflows(lockedWorkflows);
+            destinationStore.refresh();
+        }
+    }
+
+    /**
+     * Makes sure that a workflow group is not overwritten by a workflow or template (and vice versa), that templates
+     * are only copied to where they can be hosted and that overwritten local workflows are locked and not opened.
+     *
+     * @return a description of why the item can't be copied or an empty optional if it can
+     */
+    private static Optional<String> checkPreconditions(final Item item,
+        final List<LocalExplorerFileStore> lockedWorkflows) {
+        final var source = item.source();
+        final var target = item.target();
+        final var sourceInfo = source.fetchInfo();
+        if (item.overwrite()) {
+            final var targetInfo = target.fetchInfo();
+            if (sourceInfo.isWorkflowGroup() && !targetInfo.isWorkflowGroup()) {
+                return Optional.of("Cannot override \"" + target.getFullName()
+                    + "\". Workflows and MetaNode Templates cannot be overwritten by a Workflow Group.");
+            } else if (!sourceInfo.isWorkflowGroup() && targetInfo.isWorkflowGroup()) {
+                return Optional.of("Cannot override \"" + target.getFullName()
+                    + "\". Workflow Groups can only be overwritten by other Workflow Groups.");
+            }
+            if (target instanceof LocalExplorerFileStore localTarget && targetInfo.isWorkflow()
+                && !lockWorkflow(localTarget, lockedWorkflows)) {
+                return Optional.of("Cannot override \"" + target.getFullName()
+                    + "\". Probably it is opened in the editor or it is in use by another user.");
+            }
+        }
+        if (sourceInfo.isWorkflowTemplate() && !target.getContentProvider().canHostWorkflowTemplate(source)) {
+            return Optional.of("Cannot copy metanode template '" + source.getFullName() + "' to "
+                + target.getMountID() + ". Unsupported operation.");
+        }
+        return Optional.empty();
+    }
+
+    private static boolean lockWorkflow(final LocalExplorerFileStore workflow,
+        final List<LocalExplorerFileStore> lockedWorkflows) {
+        if (!ExplorerFileSystemUtils.lockWorkflow(workflow)) {
+            return false;
+        }
+        lockedWorkflows.add(workflow);
+        return !ExplorerFileSystemUtils.hasOpenWorkflows(List.of(workflow))
+            && !ExplorerFileSystemUtils.hasOpenReports(List.of(workflow));
+    }
+
+    /**
+     * Lets the content providers of overwritten items confirm the overwrite (e.g. the server asks whether to create
+     * snapshots).
+     */
+    private static boolean confirmOverwrite(final List<Item> items) {
+        final var overwrittenByProvider = new HashMap<AbstractContentProvider, List<AbstractExplorerFileStore>>();
+        for (final var item : items) {
+            if (item.overwrite()) {
+                overwrittenByProvider.computeIfAbsent(item.target().getContentProvider(), key -> new ArrayList<>())
+                    .add(item.target());
+            }
+        }
+        final var shell = PlatformUI.getWorkbench().getModalDialogShellProvider().getShell();
+        for (final var overwritten : overwrittenByProvider.entrySet()) {
+            final var confirm = overwritten.getKey().confirmOverwrite(shell, overwritten.getValue());
+            if (confirm != null && !confirm.get()) {
+                LOGGER.info("User canceled overwrite in " + overwritten.getKey());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Item transferItem(final Item item, final SpaceProvider sourceProvider,
+        final Space destinationSpace, final boolean excludeData, final IProgressMonitor monitor) throws Exception {
+        if (item.source() instanceof LocalExplorerFileStore localSource
+            && item.target() instanceof RemoteExplorerFileStore remoteTarget) {
+            destinationSpace.saveBackTo(localSource.toLocalFile().toPath(), remoteTarget.toURI(), excludeData,
+                monitor);
+        } else if (item.source() instanceof RemoteExplorerFileStore remoteSource
+            && item.target() instanceof LocalExplorerFileStore localTarget) {
+            sourceProvider.syncDownloadWorkflow(remoteSource.toIdURI(), localTarget.toURI(), false, monitor);
+        } else {
+            throw new IllegalStateException("Only uploads to and downloads from a server are supported");
+        }
+        return item;
+    }
+
+}
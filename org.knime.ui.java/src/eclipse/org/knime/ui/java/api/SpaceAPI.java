@@ -48,24 +48,24 @@
  */
 package org.knime.ui.java.api;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.hc.core5.net.URIBuilder;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.window.Window;
 import org.eclipse.swt.widgets.Display;
-import org.eclipse.ui.PlatformUI;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.ui.util.SWTUtilities;
@@ -74,8 +74,6 @@ import org.knime.gateway.api.service.GatewayException;
 import org.knime.gateway.api.webui.entity.ShowToastEventEnt;
 import org.knime.gateway.api.webui.entity.SpaceItemEnt;
 import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
-import org.knime.gateway.api.webui.service.util.ServiceExceptions.LoggedOutException;
-import org.knime.gateway.api.webui.service.util.ServiceExceptions.NetworkException;
 import org.knime.gateway.impl.project.ProjectManager;
 import org.knime.gateway.impl.webui.ToastService;
 import org.knime.gateway.impl.webui.entity.AppStateEntityFactory;
@@ -88,9 +86,10 @@ import org.knime.gateway.impl.webui.spaces.SpaceProvidersManager;
 import org.knime.gateway.impl.webui.spaces.SpaceProvidersManager.Key;
 import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 import org.knime.gateway.json.util.ObjectMapperUtil;
-import org.knime.ui.java.api.Locator.Siblings;
+import org.knime.ui.java.api.NameCollisionChecker.ExistingNames;
 import org.knime.ui.java.api.NameCollisionChecker.UsageContext;
 import org.knime.ui.java.util.DesktopAPUtil;
+import org.knime.ui.java.util.SpaceMetadataCache;
 import org.knime.workbench.explorer.ExplorerMountTable;
 import org.knime.workbench.explorer.dialogs.SpaceResourceSelectionDialog;
 import org.knime.workbench.explorer.dialogs.Validator;
@@ -109,6 +108,13 @@ import com.fasterxml.jackson.core.JsonProcessingException;
  */
 final class SpaceAPI {
 
+    /**
+     * System property to configure the maximum number of items downloaded from a Hub space in parallel.
+     */
+    static final String HUB_DOWNLOAD_PARALLELISM_PROPERTY = "org.knime.ui.hub_download.parallelism";
+
+    private static final int DEFAULT_HUB_DOWNLOAD_PARALLELISM = 4;
+
     private static final NodeLogger LOGGER = NodeLogger.getLogger(SpaceAPI.class);
 
     private SpaceAPI() {
@@ -173,7 +179,8 @@ final class SpaceAPI {
         final var space = DesktopAPI.getSpace(spaceProviderId, spaceId);
         final var usageContext = UsageContext.valueOf(context);
         try {
-            return determineNameCollisionHandling(space, itemIds, destWorkflowGroupItemId, usageContext) //
+            return determineNameCollisionHandling(spaceProviderId, space, itemIds, destWorkflowGroupItemId,
+                usageContext) //
                 .map(NameCollisionHandling::toString) //
                 .orElse("CANCEL");
         } catch (final MutableServiceCallException e) {
@@ -181,12 +188,14 @@ final class SpaceAPI {
         }
     }
 
-    private static Optional<NameCollisionHandling> determineNameCollisionHandling(final Space space,
-        final Object[] itemIds, final String destWorkflowGroupItemId, final UsageContext context)
+    private static Optional<NameCollisionHandling> determineNameCollisionHandling(final String spaceProviderId,
+        final Space space, final Object[] itemIds, final String destWorkflowGroupItemId, final UsageContext context)
         throws GatewayException, MutableServiceCallException {
-        final var nameCollisions = NameCollisionChecker.checkForNameCollisions(space, destWorkflowGroupItemId, itemIds);
+        final var nameCollisions =
+            NameCollisionChecker.checkForNameCollisions(spaceProviderId, space, destWorkflowGroupItemId, itemIds);
         return nameCollisions.isEmpty() ? Optional.of(Space.NameCollisionHandling.NOOP) : NameCollisionChecker //
-            .openDialogToSelectCollisionHandling(space, destWorkflowGroupItemId, nameCollisions, context);
+            .openDialogToSelectCollisionHandling(spaceProviderId, space, destWorkflowGroupItemId, nameCollisions,
+                context);
     }
 
     @API
@@ -206,11 +215,15 @@ final class SpaceAPI {
         // the UI never offered "Download" to non-local -- let's make this assumption explicit here
         CheckUtils.checkArgument(destination.isLocal(), "Unexpected download to non-local space");
         try {
+            final boolean success;
             if (sources.isHub()) {
                 // always use HubClient SDK for downloads from Hub spaces, let it handle backwards-compatibility
-                return performAsyncHubDownload(sources, destination);
+                success = performAsyncHubDownload(sources, destination);
+            } else {
+                success = ServerTransfer.copy(sources, destination, false);
             }
-            return legacyCopyBetweenSpaces(sources, destination, false);
+            invalidateSpaceMetadata(destination);
+            return success;
         } catch (MutableServiceCallException e) { // NOSONAR
             throw e.toGatewayException( //
                 "Failed to download item%s".formatted(sourceItemIdsParam.length == 1 ? "" : "s"));
@@ -263,19 +276,33 @@ final class SpaceAPI {
         final boolean excludeData) throws GatewayException, MutableServiceCallException {
         // the UI never offered "Upload" from non-local -- let's make this assumption explicit here
         CheckUtils.checkArgument(sources.isLocal(), "Unexpected upload from non-local space");
+        final List<String> uploadedItemIds;
         if (destination.isHub()) {
             // always use HubClient SDK for uploads to Hub spaces, let it handle backwards-compatibility
-            return performAsyncHubUpload(sources, destination, excludeData);
+            uploadedItemIds = performAsyncHubUpload(sources, destination, excludeData);
+        } else {
+            ServerTransfer.copy(sources, destination, excludeData);
+            uploadedItemIds = List.of();
         }
+        invalidateSpaceMetadata(destination);
+        return uploadedItemIds;
+    }
 
-        legacyCopyBetweenSpaces(sources, destination, excludeData);
-        return List.of();
+    /**
+     * Drops the cached metadata of the destination's space since items might have been added to or replaced in it.
+     */
+    private static void invalidateSpaceMetadata(final Locator.Destination destination) {
+        DesktopAPI.getSpaceMetadata().invalidate(destination.providerId(), destination.spaceId());
     }
 
     private static boolean performAsyncHubDownload(final Locator.Siblings sources,
         final Locator.Destination destination) throws GatewayException, MutableServiceCallException {
         final var remoteSpace = sources.space();
         final var localSpace = (LocalSpace)destination.space();
+        if (sources.itemIds().size() > 1) {
+            return performParallelHubDownload(sources.providerId(), remoteSpace, sources.itemIds(), localSpace,
+                destination.itemId());
+        }
         final TransferResult result = remoteSpace.downloadInto(sources.itemIds(), localSpace, destination.itemId());
         if (result.errorTitleAndDescription() != null) {
             showErrorToast(result.errorTitleAndDescription().getFirst(), result.errorTitleAndDescription().getSecond(),
@@ -284,6 +311,60 @@ final class SpaceAPI {
         return result.successful();
     }
 
+    /**
+     * Downloads the items one by one, but up to {@value #HUB_DOWNLOAD_PARALLELISM_PROPERTY} items at the same time.
+     * Items that fail to download don't affect the others; they are summarized in a single error toast. Canceling
+     * drops the items not yet started; since {@code Space.downloadInto} can't be canceled, the items already being
+     * downloaded are completed.
+     *
+     * @return whether at least one item has been downloaded
+     */
+    private static boolean performParallelHubDownload(final String remoteSpaceProviderId, final Space remoteSpace,
+        final List<String> itemIds, final LocalSpace localSpace, final String destinationItemId) {
+        final var spaceMetadata = DesktopAPI.getSpaceMetadata();
+        final var parallelism =
+            Math.max(1, Integer.getInteger(HUB_DOWNLOAD_PARALLELISM_PROPERTY, DEFAULT_HUB_DOWNLOAD_PARALLELISM));
+        final var taskName = "Downloading %d items".formatted(itemIds.size());
+        final var result = DesktopAPUtil.runWithProgress(taskName, LOGGER, monitor -> ParallelTransfer.run( //
+            taskName, //
+            itemIds, //
+            itemId -> getItemNameOrId(spaceMetadata, remoteSpaceProviderId, remoteSpace, itemId), //
+            (itemId, itemMonitor) -> downloadItem(remoteSpace, itemId, localSpace, destinationItemId), //
+            parallelism, //
+            monitor));
+        if (result.isEmpty()) {
+            return false;
+        }
+        final var failures = result.get().failures();
+        if (!failures.isEmpty()) {
+            showErrorToast("Not all items could be downloaded",
+                "%d of %d items failed to download:%n%s".formatted(failures.size(), itemIds.size(),
+                    result.get().failureSummary()),
+                false);
+        }
+        return !result.get().transferred().isEmpty();
+    }
+
+    private static TransferResult downloadItem(final Space remoteSpace, final String itemId,
+        final LocalSpace localSpace, final String destinationItemId)
+        throws IOException, GatewayException, MutableServiceCallException {
+        final var result = remoteSpace.downloadInto(List.of(itemId), localSpace, destinationItemId);
+        if (!result.successful()) {
+            final var error = result.errorTitleAndDescription();
+            throw new IOException(error == null ? "Download failed" : error.getSecond());
+        }
+        return result;
+    }
+
+    private static String getItemNameOrId(final SpaceMetadataCache spaceMetadata, final String spaceProviderId,
+        final Space space, final String itemId) {
+        try {
+            return spaceMetadata.getItemName(spaceProviderId, space, itemId);
+        } catch (GatewayException | MutableServiceCallException | NoSuchElementException e) { // NOSONAR
+            return itemId;
+        }
+    }
+
     private static List<String> performAsyncHubUpload(final Locator.Siblings sources,
         final Locator.Destination destination, final boolean excludeData)
         throws GatewayException, MutableServiceCallException {
@@ -333,12 +414,24 @@ final class SpaceAPI {
 
     private static List<String> itemNamesToItemIds(final Locator.Destination destination, final List<String> itemNames)
         throws GatewayException, MutableServiceCallException {
-
         var destinationWfGroup = destination.space().listWorkflowGroup(destination.itemId());
-        return destinationWfGroup.getItems().stream() //
-                .filter(item -> itemNames.stream().anyMatch(sourceName -> item.getName().equals(sourceName))) //
-                .map(SpaceItemEnt::getId) //
-                .toList();
+        return itemNamesToItemIds(destinationWfGroup.getItems(), itemNames);
+    }
+
+    /**
+     * @return the ids of the given items with the given names, in the order of the names; names without a
+     *         corresponding item are skipped
+     */
+    static List<String> itemNamesToItemIds(final List<SpaceItemEnt> items, final List<String> itemNames) {
+        // index the (potentially many) items by name once instead of matching every item against every name
+        var itemIdsByName = new HashMap<String, String>();
+        for (var item : items) {
+            itemIdsByName.putIfAbsent(item.getName(), item.getId());
+        }
+        return itemNames.stream() //
+            .map(itemIdsByName::get) //
+            .filter(Objects::nonNull) //
+            .toList();
     }
 
     @Deprecated(forRemoval = true) // this should be done by frontend in the future
@@ -378,24 +471,6 @@ final class SpaceAPI {
         return dirtyAndOpen;
     }
 
-    private static boolean legacyCopyBetweenSpaces(final Siblings sources, final Locator.Destination destination,
-        final boolean excludeData) throws GatewayException, MutableServiceCallException {
-        final var space = sources.space();
-        final var sourceFileStores = sources.itemIds().stream() //
-            .map(itemId -> ExplorerMountTable.getFileSystem().getStore(space.toKnimeUrl(itemId))).toList();
-        final var destinationFileStore =
-            ExplorerMountTable.getFileSystem().getStore((destination.space().toKnimeUrl(destination.itemId())));
-        return ClassicAPCopyLogic.copy( //
-            PlatformUI.getWorkbench().getModalDialogShellProvider(), //
-            sources.provider(), //
-            sourceFileStores, //
-            destination.provider(), //
-            destinationFileStore, //
-            destination.space().getId(), //
-            excludeData //
-        );
-    }
-
     /**
      * Opens the website of an item in the web browser
      *
@@ -516,9 +591,12 @@ final class SpaceAPI {
         }
 
         final var groupPath = IPath.forPosix(destinationFileStore.getFullName());
+        // listed once and used for both, the collision check and the generation of a new name
+        final ExistingNames existingNames;
         final List<String> nameCollisions;
         try {
-            nameCollisions = NameCollisionChecker.checkForNameCollisions(space, workflowGroupItemId, Stream.of(name));
+            existingNames = ExistingNames.of(space, workflowGroupItemId);
+            nameCollisions = NameCollisionChecker.checkForNameCollisions(existingNames, Stream.of(name));
             if (nameCollisions.isEmpty()) {
                 return encodeSpaceItemEnt(space.saveJobAsWorkflow(groupPath, name, jobId));
             }
@@ -530,8 +608,8 @@ final class SpaceAPI {
         final var gatewayExceptionRef = new AtomicReference<GatewayException>();
         Display.getDefault().syncExec(() -> {
             try {
-                NameCollisionChecker
-                    .openDialogToSelectCollisionHandling(space, workflowGroupItemId, nameCollisions, UsageContext.SAVE)
+                NameCollisionChecker.openDialogToSelectCollisionHandling(spaceProviderId, space, workflowGroupItemId,
+                    nameCollisions, UsageContext.SAVE)
                     .ifPresent(collisionHandlingStrategyRef::set);
             } catch (GatewayException e) {
                 gatewayExceptionRef.set(e);
@@ -555,18 +633,7 @@ final class SpaceAPI {
         }
 
         // It is NameCollisionHandling.AUTORENAME since we got collisions, so it should not be NOOP
-        final Predicate<String> taken = testName -> {
-            try {
-                return space.containsItemWithName(workflowGroupItemId, testName);
-            } catch (NetworkException | LoggedOutException | MutableServiceCallException e) {
-                // this is safe here because the surrounding method declared all of these exceptions
-                final GatewayException ge =
-                    e instanceof MutableServiceCallException csce
-                        ? csce.toGatewayException("Failed to check folder for collisions") : (GatewayException)e;
-                throw ExceptionUtils.asRuntimeException(ge);
-            }
-        };
-        final var newName = Space.generateUniqueSpaceItemName(taken, name, true);
+        final var newName = existingNames.reserveUniqueName(name, true);
         return encodeSpaceItemEnt(space.saveJobAsWorkflow(groupPath, newName, jobId));
     }
 
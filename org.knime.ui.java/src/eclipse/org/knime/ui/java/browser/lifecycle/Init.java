@@ -113,13 +113,18 @@ import org.knime.ui.java.api.SaveAndCloseProjects;
 import org.knime.ui.java.api.SaveAndCloseProjects.State;
 import org.knime.ui.java.browser.KnimeBrowserView;
 import org.knime.ui.java.persistence.AppStatePersistor;
+import org.knime.ui.java.persistence.AppStateSnapshot;
 import org.knime.ui.java.prefs.KnimeUIPreferences;
 import org.knime.ui.java.util.CreateProject;
 import org.knime.ui.java.util.DesktopAPUtil;
 import org.knime.ui.java.util.ExampleProjects;
+import org.knime.ui.java.util.LocalItemStateCache;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
 import org.knime.ui.java.util.NodeCollectionUtil;
+import org.knime.ui.java.util.ProjectHibernation;
+import org.knime.ui.java.util.SpaceMetadataCache;
 import org.knime.ui.java.util.WorkbenchProgressReporter;
+import org.knime.ui.java.util.WorkflowVersionCache;
 
 import com.equo.middleware.api.handler.IRequestFilter;
 import com.equo.middleware.api.resource.MutableRequest;
@@ -147,6 +152,7 @@ final class Init {
         var eventConsumer = createEventConsumer();
         var toastService = new ToastService(eventConsumer);
         var spaceProvidersManager = createSpaceProvidersManager(localSpace, toastService);
+        var spaceMetadata = new SpaceMetadataCache();
 
         ProjectManager projectManager;
         if (state.getProjectManager() != null) {
@@ -159,7 +165,8 @@ final class Init {
                 try {
                     final var origin = projectToRestore.origin();
                     final Space space = getSpace(spaceProviders, origin);
-                    final var project = CreateProject.createProjectFromOrigin(origin, progressReporter, space);
+                    final var project = CreateProject.createProjectFromOrigin(origin, progressReporter, space,
+                        spaceMetadata);
                     projectManager.addProject(project);
                     if (projectToRestore.isActive()) {
                         projectManager.setProjectActive(project.getID());
@@ -192,6 +199,14 @@ final class Init {
             state.loadedApplicationState().recentlyUsedProjects().forEach(mostRecentlyUsedProjects::add);
         }
 
+        var appStateSnapshot = state.getAppStateSnapshot() != null ? state.getAppStateSnapshot()
+            : AppStateSnapshot.create(projectManager, mostRecentlyUsedProjects, localSpace);
+
+        var projectHibernation = new ProjectHibernation(projectManager, workflowMiddleware);
+        projectHibernation.start();
+
+        var versionCache = new WorkflowVersionCache(WorkflowVersionCache.getConfiguredMaxSize());
+
         var linkVariants = new LinkVariants.KnimeUrlResolverVariants();
         var featureFlags = new FeatureFlags.FromSystemProperties();
 
@@ -226,10 +241,15 @@ final class Init {
             mostRecentlyUsedProjects, //
             toastService, //
             localSpace, //
+            new LocalItemStateCache(localSpace), //
             state.getWelcomeApEndpoint(), //
             createExampleProjects(), //
             state.getUserProfile(), //
-            progressReporter);
+            progressReporter, //
+            projectHibernation, //
+            spaceMetadata, //
+            appStateSnapshot, //
+            versionCache);
 
         // Register listeners
         var softwareUpdateProgressListener = registerSoftwareUpdateProgressListener(eventConsumer);
@@ -257,6 +277,11 @@ final class Init {
                 return mostRecentlyUsedProjects;
             }
 
+            @Override
+            public AppStateSnapshot getAppStateSnapshot() {
+                return appStateSnapshot;
+            }
+
             @Override
             public AppStatePersistor.LoadedApplicationState loadedApplicationState() {
                 return AppStatePersistor.LoadedApplicationState.empty();
@@ -58,6 +58,7 @@ import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 import org.knime.product.rcp.intro.WelcomeAPEndpoint;
 import org.knime.ui.java.api.SaveAndCloseProjects;
 import org.knime.ui.java.persistence.AppStatePersistor;
+import org.knime.ui.java.persistence.AppStateSnapshot;
 import org.knime.ui.java.profile.UserProfile;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
 
@@ -122,6 +123,14 @@ public interface LifeCycleStateInternal extends LifeCycleState {
         return null;
     }
 
+    /**
+     * @return the incrementally maintained app state snapshot to be passed between life cycle phases. May be
+     *         {@code null} if not yet initialised.
+     */
+    default AppStateSnapshot getAppStateSnapshot() {
+        return null;
+    }
+
     /**
      * @return The job change listener that was registered to the {@link IJobManager}
      */
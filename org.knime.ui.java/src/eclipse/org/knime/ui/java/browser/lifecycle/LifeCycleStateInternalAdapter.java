@@ -56,6 +56,7 @@ import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 import org.knime.product.rcp.intro.WelcomeAPEndpoint;
 import org.knime.ui.java.api.SaveAndCloseProjects.State;
 import org.knime.ui.java.persistence.AppStatePersistor;
+import org.knime.ui.java.persistence.AppStateSnapshot;
 import org.knime.ui.java.profile.UserProfile;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
 
@@ -83,6 +84,11 @@ class LifeCycleStateInternalAdapter implements LifeCycleStateInternal {
         return m_lifeCycleStateInternal.serializedAppState();
     }
 
+    @Override
+    public AppStateSnapshot getAppStateSnapshot() {
+        return m_lifeCycleStateInternal.getAppStateSnapshot();
+    }
+
     @Override
     public IJobChangeListener getJobChangeListener() {
         return m_lifeCycleStateInternal.getJobChangeListener();
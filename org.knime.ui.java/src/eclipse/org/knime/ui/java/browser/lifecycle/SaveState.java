@@ -72,11 +72,17 @@ final class SaveState {
         var serializedAppState = new AtomicReference<String>();
         try {
             // NOSONAR: Serialize app state before closing all workflows
-            serializedAppState.set(AppStatePersistor.serializeAppState( //
-                state.getProjectManager(), //
-                state.mostRecentlyUsedProjects(), //
-                state.getLocalSpace()) //
-            );
+            var appStateSnapshot = state.getAppStateSnapshot();
+            if (appStateSnapshot != null) {
+                // only re-serializes what has changed since the last (background) update, but checks everything
+                serializedAppState.set(appStateSnapshot.get());
+            } else {
+                serializedAppState.set(AppStatePersistor.serializeAppState( //
+                    state.getProjectManager(), //
+                    state.mostRecentlyUsedProjects(), //
+                    state.getLocalSpace()) //
+                );
+            }
         } catch (RuntimeException e) { // do not abort shutdown
             NodeLogger.getLogger(SaveState.class).error("Could not save application state", e);
         }
@@ -50,6 +50,8 @@ package org.knime.ui.java.persistence;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -59,7 +61,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collector;
 
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
@@ -74,10 +75,13 @@ import org.knime.ui.java.util.LocalSpaceUtil;
 import org.knime.ui.java.util.MostRecentlyUsedProjects;
 import org.knime.ui.java.util.MostRecentlyUsedProjects.RecentlyUsedProject;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Utility methods to persist (save and load) the state of the KNIME UI to a file.
@@ -95,6 +99,18 @@ public final class AppStatePersistor {
 
     private static final Path APP_STATE_FILE = Paths.get(KNIMEConstants.getKNIMEHomeDir(), "app_state.json");
 
+    /**
+     * The same format as {@link com.fasterxml.jackson.databind.JsonNode#toPrettyString()}.
+     */
+    private static final DefaultPrettyPrinter PRETTY_PRINTER = new DefaultPrettyPrinter();
+
+    /**
+     * For the (recently used) project fragments which are embedded one level deep into the app state, see
+     * {@link #assembleAppState(List, List)}.
+     */
+    private static final DefaultPrettyPrinter FRAGMENT_PRETTY_PRINTER = new DefaultPrettyPrinter()
+        .withObjectIndenter(new DefaultIndenter("  ", DefaultIndenter.SYS_LF + "  "));
+
     private static final String RELATIVE_PATH = "relativePath";
 
     private static final String VERSION = "version";
@@ -124,6 +140,9 @@ public final class AppStatePersistor {
     }
 
     /**
+     * Serializes the app state in a streaming fashion (i.e. without building an intermediate json tree) into a
+     * pretty-printed json string.
+     *
      * @param pm supplies the projects to serialize
      * @param mruProjects supplies the recently used projects to serialize
      * @param localSpace instance of the local space
@@ -131,17 +150,57 @@ public final class AppStatePersistor {
      */
     public static String serializeAppState(final ProjectManager pm, final MostRecentlyUsedProjects mruProjects,
         final LocalSpace localSpace) {
-        var projectsJson = serializeProjects(pm, localSpace);
-        var mruProjectsJson = serializeMRUProjects(mruProjects, localSpace);
-        var res = MAPPER.createObjectNode().put(VERSION, KNIMEConstants.VERSION);
-        res.set(PROJECTS, projectsJson);
-        if (!mruProjectsJson.isEmpty()) {
-            res.set(MRU_PROJECTS, mruProjectsJson);
-        }
-        return res.toPrettyString();
+        return writeToString(PRETTY_PRINTER, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField(VERSION, KNIMEConstants.VERSION);
+            generator.writeArrayFieldStart(PROJECTS);
+            for (var project : getProjectsToPersist(pm)) {
+                serializeProject(generator, pm, project, localSpace);
+            }
+            generator.writeEndArray();
+            var recentlyUsedProjects = mruProjects.get();
+            if (!recentlyUsedProjects.isEmpty()) {
+                generator.writeArrayFieldStart(MRU_PROJECTS);
+                for (var project : recentlyUsedProjects) {
+                    serializeRUProject(generator, project, localSpace);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        });
     }
 
-    private static ArrayNode serializeProjects(final ProjectManager projectManager, final LocalSpace localSpace) {
+    /**
+     * Assembles the app state from already serialized projects and recently used projects. Yields the same result as
+     * {@link #serializeAppState(ProjectManager, MostRecentlyUsedProjects, LocalSpace)} if the fragments have been
+     * created via {@link #serializeProject(ProjectManager, Project, LocalSpace)} and
+     * {@link #serializeRUProject(RecentlyUsedProject, LocalSpace)}, respectively.
+     */
+    static String assembleAppState(final List<String> serializedProjects,
+        final List<String> serializedRecentlyUsedProjects) {
+        return writeToString(PRETTY_PRINTER, generator -> {
+            generator.writeStartObject();
+            generator.writeStringField(VERSION, KNIMEConstants.VERSION);
+            generator.writeArrayFieldStart(PROJECTS);
+            for (var project : serializedProjects) {
+                generator.writeRawValue(project);
+            }
+            generator.writeEndArray();
+            if (!serializedRecentlyUsedProjects.isEmpty()) {
+                generator.writeArrayFieldStart(MRU_PROJECTS);
+                for (var project : serializedRecentlyUsedProjects) {
+                    generator.writeRawValue(project);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * @return the projects to be persisted, i.e. the local workflow projects, in order
+     */
+    static List<Project> getProjectsToPersist(final ProjectManager projectManager) {
         return projectManager.getProjectIds().stream().map(id -> projectManager.getProject(id).orElse(null))
             .filter(Objects::nonNull) //
             // only persist local workflow projects
@@ -149,54 +208,75 @@ public final class AppStatePersistor {
                 .map(o -> LocalSpaceUtil.isLocalSpace(o.providerId(), o.spaceId())) //
                 .orElse(Boolean.FALSE) //
             ) //
-            .map(project -> serializeProject(projectManager, project, localSpace)) //
-            .collect(arrayNodeCollector());
+            .toList();
     }
 
-    private static ObjectNode serializeProject(final ProjectManager projectManager, final Project project,
+    static String serializeProject(final ProjectManager projectManager, final Project project,
         final LocalSpace localSpace) {
-        var projectJson = MAPPER.createObjectNode() //
-            .put(NAME, project.getName()) //
-            .put(ACTIVE, projectManager.isActiveProject(project.getID()));
-        project.getOrigin().ifPresent(origin -> projectJson.set(ORIGIN, serializeOrigin(origin, false, localSpace)));
-        return projectJson;
+        return writeToString(FRAGMENT_PRETTY_PRINTER,
+            generator -> serializeProject(generator, projectManager, project, localSpace));
     }
 
-    private static ArrayNode serializeMRUProjects(final MostRecentlyUsedProjects mruProjects,
-        final LocalSpace localSpace) {
-        return mruProjects.get().stream().map(project -> serializeRUProject(project, localSpace)) //
-            .collect(arrayNodeCollector());
+    static String serializeRUProject(final RecentlyUsedProject project, final LocalSpace localSpace) {
+        return writeToString(FRAGMENT_PRETTY_PRINTER, generator -> serializeRUProject(generator, project, localSpace));
     }
 
-    private static ObjectNode serializeRUProject(final RecentlyUsedProject project, final LocalSpace localSpace) {
-        var projectJson = MAPPER.createObjectNode() //
-            .put(NAME, project.name()) //
-            .put(TIME_USED, project.timeUsed().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
-        projectJson.set(ORIGIN, serializeOrigin(project.origin(), true, localSpace));
-        return projectJson;
+    private static String writeToString(final DefaultPrettyPrinter prettyPrinter, final JsonWriter jsonWriter) {
+        var writer = new StringWriter();
+        try (var generator = MAPPER.getFactory().createGenerator(writer)) {
+            generator.setPrettyPrinter(prettyPrinter.createInstance());
+            jsonWriter.write(generator);
+        } catch (IOException e) {
+            // never happens when writing into a StringWriter
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
     }
 
-    private static JsonNode serializeOrigin(final Origin origin, final boolean addProjectTypeIfPresent,
-        final LocalSpace localSpace) {
-        var originJson = MAPPER.createObjectNode() //
-            .put(PROVIDER_ID, origin.providerId()) //
-            .put(SPACE_ID, origin.spaceId());
-        if (addProjectTypeIfPresent) {
-            origin.projectType().map(ProjectTypeEnum::name).ifPresent(t -> originJson.put(PROJECT_TYPE, t));
+    @FunctionalInterface
+    private interface JsonWriter {
+
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    private static void serializeProject(final JsonGenerator generator, final ProjectManager projectManager,
+        final Project project, final LocalSpace localSpace) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, project.getName());
+        generator.writeBooleanField(ACTIVE, projectManager.isActiveProject(project.getID()));
+        var origin = project.getOrigin().orElse(null);
+        if (origin != null) {
+            generator.writeFieldName(ORIGIN);
+            serializeOrigin(generator, origin, false, localSpace);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void serializeRUProject(final JsonGenerator generator, final RecentlyUsedProject project,
+        final LocalSpace localSpace) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, project.name());
+        generator.writeStringField(TIME_USED, project.timeUsed().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        generator.writeFieldName(ORIGIN);
+        serializeOrigin(generator, project.origin(), true, localSpace);
+        generator.writeEndObject();
+    }
+
+    private static void serializeOrigin(final JsonGenerator generator, final Origin origin,
+        final boolean addProjectTypeIfPresent, final LocalSpace localSpace) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(PROVIDER_ID, origin.providerId());
+        generator.writeStringField(SPACE_ID, origin.spaceId());
+        if (addProjectTypeIfPresent && origin.projectType().isPresent()) {
+            generator.writeStringField(PROJECT_TYPE, origin.projectType().get().name());
         }
         if (origin.isLocal()) {
             final var relativePath = localSpace.toLocalRelativePath(origin.itemId()).orElseThrow();
-            originJson.put(RELATIVE_PATH, relativePath.toString());
+            generator.writeStringField(RELATIVE_PATH, relativePath.toString());
         } else {
-            originJson.put(ITEM_ID, origin.itemId());
+            generator.writeStringField(ITEM_ID, origin.itemId());
         }
-        return originJson;
-    }
-
-    private static Collector<Object, ArrayNode, ArrayNode> arrayNodeCollector() {
-        return Collector.of(MAPPER::createArrayNode, ArrayNode::addPOJO, (n1, n2) -> {
-            throw new UnsupportedOperationException();
-        });
+        generator.writeEndObject();
     }
 
     /**
@@ -246,6 +326,8 @@ public final class AppStatePersistor {
 
     /**
      * Loads the app state from a file and registers the opened workflow projects with the {@link ProjectManager}.
+     * <p>
+     * The file is read in a streaming fashion; unknown properties are skipped.
      *
      * @param localSpace the local space instance
      * @return -
@@ -254,30 +336,123 @@ public final class AppStatePersistor {
         if (!Files.exists(APP_STATE_FILE)) {
             return LoadedApplicationState.empty();
         }
-        JsonNode appStateJson;
-        try {
-            appStateJson = MAPPER.readTree(APP_STATE_FILE.toFile());
+        var projectEntries = new ArrayList<EntryFields>();
+        var mruProjectEntries = new ArrayList<EntryFields>();
+        try (var parser = MAPPER.getFactory().createParser(APP_STATE_FILE.toFile())) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.currentName();
+                var token = parser.nextToken();
+                if (PROJECTS.equals(fieldName)) {
+                    readEntries(parser, token, projectEntries);
+                } else if (MRU_PROJECTS.equals(fieldName)) {
+                    readEntries(parser, token, mruProjectEntries);
+                } else {
+                    parser.skipChildren();
+                }
+            }
         } catch (IOException e) {
             LOGGER.error("Failed to load the app state", e);
             return LoadedApplicationState.empty();
         }
         //
         return new LoadedApplicationState( //
-            deserializeMRUProjects(appStateJson, localSpace), //
-            deserializeProjects(appStateJson, localSpace) //
+            deserializeMRUProjects(mruProjectEntries, localSpace), //
+            deserializeProjects(projectEntries, localSpace) //
         );
     }
 
-    private static List<RestoredOpenProject> deserializeProjects(final JsonNode appStateJson,
+    /**
+     * The raw properties of a (recently used or open) project entry as read from the app state file.
+     */
+    private record EntryFields(String name, boolean active, String timeUsed, OriginFields origin) {
+    }
+
+    /**
+     * The raw properties of an origin as read from the app state file.
+     */
+    private record OriginFields(String providerId, String spaceId, String itemId, String relativePath,
+        String projectType) {
+    }
+
+    private static void readEntries(final JsonParser parser, final JsonToken token, final List<EntryFields> entries)
+        throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expectToken(parser, token, JsonToken.START_ARRAY);
+        JsonToken elementToken;
+        while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (elementToken == JsonToken.START_OBJECT) {
+                entries.add(readEntry(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static EntryFields readEntry(final JsonParser parser) throws IOException {
+        String name = null;
+        var active = false;
+        String timeUsed = null;
+        OriginFields origin = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.currentName();
+            var token = parser.nextToken();
+            switch (fieldName) {
+                case NAME -> name = parser.getValueAsString();
+                case ACTIVE -> active = parser.getValueAsBoolean();
+                case TIME_USED -> timeUsed = parser.getValueAsString();
+                case ORIGIN -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        origin = readOrigin(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new EntryFields(name, active, timeUsed, origin);
+    }
+
+    private static OriginFields readOrigin(final JsonParser parser) throws IOException {
+        String providerId = null;
+        String spaceId = null;
+        String itemId = null;
+        String relativePath = null;
+        String projectType = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case PROVIDER_ID -> providerId = parser.getValueAsString();
+                case SPACE_ID -> spaceId = parser.getValueAsString();
+                case ITEM_ID -> itemId = parser.getValueAsString();
+                case RELATIVE_PATH -> relativePath = parser.getValueAsString();
+                case PROJECT_TYPE -> projectType = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return new OriginFields(providerId, spaceId, itemId, relativePath, projectType);
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actual, final JsonToken expected)
+        throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but got " + actual);
+        }
+    }
+
+    private static List<RestoredOpenProject> deserializeProjects(final List<EntryFields> projectEntries,
         final LocalSpace localSpace) {
-        var projectsJson = (ArrayNode)appStateJson.get(PROJECTS);
         var restoredOpenProjects = new ArrayList<RestoredOpenProject>();
-        for (var projectJson : projectsJson) {
-            if (!hasOriginAndRelativePath(projectJson)) {
+        for (var projectEntry : projectEntries) {
+            if (!hasOriginAndRelativePath(projectEntry)) {
                 continue;
             }
             try {
-                var restoredOpenProject = deserializeLocalProject(projectJson, localSpace);
+                var restoredOpenProject = deserializeLocalProject(projectEntry, localSpace);
                 restoredOpenProjects.add(restoredOpenProject);
             } catch (FileNotFoundException ignored) { // NOSONAR
                 // continue
@@ -286,9 +461,9 @@ public final class AppStatePersistor {
         return restoredOpenProjects;
     }
 
-    private static RestoredOpenProject deserializeLocalProject(final JsonNode projectJson,
+    private static RestoredOpenProject deserializeLocalProject(final EntryFields projectEntry,
         final LocalSpace localSpace) throws FileNotFoundException {
-        var originAndRelativePath = deserializeOrigin(projectJson.get(ORIGIN), localSpace);
+        var originAndRelativePath = deserializeOrigin(projectEntry.origin(), localSpace);
         var absolutePath = localSpace.getRootPath().resolve(originAndRelativePath.getSecond().orElseThrow());
         if (!Files.exists(absolutePath)) {
             var message = "No workflow project found at " + absolutePath;
@@ -299,66 +474,61 @@ public final class AppStatePersistor {
         var origin = originAndRelativePath.getFirst();
         return new RestoredOpenProject( //
             origin, //
-            projectJson.get(ACTIVE).asBoolean() //
+            projectEntry.active() //
         );
     }
 
-    private static boolean hasOriginAndRelativePath(final JsonNode projectJson) {
-        if (!projectJson.has(ORIGIN)) {
-            return false;
-        }
-        return projectJson.get(ORIGIN).has(RELATIVE_PATH);
+    private static boolean hasOriginAndRelativePath(final EntryFields projectEntry) {
+        return projectEntry.origin() != null && projectEntry.origin().relativePath() != null;
     }
 
-    private static List<RecentlyUsedProject> deserializeMRUProjects(final JsonNode appStateJson,
+    private static List<RecentlyUsedProject> deserializeMRUProjects(final List<EntryFields> projectEntries,
         final LocalSpace localSpace) {
-        var projectsJson = (ArrayNode)appStateJson.get(MRU_PROJECTS);
-        if (projectsJson == null) {
-            return List.of();
-        }
-        var recentlyUsedProjects = new ArrayList<RecentlyUsedProject>();
-        for (var projectJson : projectsJson) {
-            recentlyUsedProjects.add(deserializeMRUProject(projectJson, localSpace));
+        var recentlyUsedProjects = new ArrayList<RecentlyUsedProject>(projectEntries.size());
+        for (var projectEntry : projectEntries) {
+            if (projectEntry.name() == null || projectEntry.timeUsed() == null || projectEntry.origin() == null) {
+                continue;
+            }
+            recentlyUsedProjects.add(deserializeMRUProject(projectEntry, localSpace));
         }
         return recentlyUsedProjects;
     }
 
-    private static RecentlyUsedProject deserializeMRUProject(final JsonNode projectJson, final LocalSpace localSpace) {
-        var origin = deserializeOrigin(projectJson.get(ORIGIN), localSpace).getFirst();
+    private static RecentlyUsedProject deserializeMRUProject(final EntryFields projectEntry,
+        final LocalSpace localSpace) {
+        var origin = deserializeOrigin(projectEntry.origin(), localSpace).getFirst();
         return new RecentlyUsedProject( //
-            projectJson.get(NAME).asText(), //
+            projectEntry.name(), //
             origin, //
-            OffsetDateTime.parse(projectJson.get(TIME_USED).asText(), DateTimeFormatter.ISO_OFFSET_DATE_TIME) //
+            OffsetDateTime.parse(projectEntry.timeUsed(), DateTimeFormatter.ISO_OFFSET_DATE_TIME) //
         );
     }
 
-    private static Pair<Origin, Optional<String>> deserializeOrigin(final JsonNode originJson,
+    private static Pair<Origin, Optional<String>> deserializeOrigin(final OriginFields originFields,
         final LocalSpace localSpace) {
-        var providerId = originJson.get(PROVIDER_ID).asText();
-        var spaceId = originJson.get(SPACE_ID).asText();
-
-        var relativePath = Optional.ofNullable(originJson.get(RELATIVE_PATH)).map(JsonNode::asText);
-        var itemId = getItemId(originJson, localSpace, relativePath.orElse(null));
+        var relativePath = Optional.ofNullable(originFields.relativePath());
+        var itemId = getItemId(originFields, localSpace, relativePath.orElse(null));
 
-        var projectTypeOptional = getProjectType(originJson, relativePath.isPresent(), localSpace, itemId);
-        var origin = new Origin(providerId, spaceId, itemId, projectTypeOptional.orElse(null));
+        var projectTypeOptional = getProjectType(originFields, relativePath.isPresent(), localSpace, itemId);
+        var origin = new Origin(originFields.providerId(), originFields.spaceId(), itemId,
+            projectTypeOptional.orElse(null));
 
         return new Pair<>(origin, relativePath);
     }
 
-    private static String getItemId(final JsonNode originJson, final LocalSpace localSpace, final String relativePath) {
+    private static String getItemId(final OriginFields originFields, final LocalSpace localSpace,
+        final String relativePath) {
         if (relativePath != null) { // Relative path only given for local projects
             var absolutePath = localSpace.getRootPath().resolve(Path.of(relativePath));
             return localSpace.getItemId(absolutePath);
         }
 
-        return originJson.get(ITEM_ID).asText();
+        return originFields.itemId();
     }
 
-    private static Optional<ProjectTypeEnum> getProjectType(final JsonNode originJson, final boolean isLocal,
+    private static Optional<ProjectTypeEnum> getProjectType(final OriginFields originFields, final boolean isLocal,
         final LocalSpace localSpace, final String itemId) {
-        var projectType = Optional.ofNullable(originJson.get(PROJECT_TYPE)) //
-            .map(JsonNode::asText) //
+        var projectType = Optional.ofNullable(originFields.projectType()) //
             .map(ProjectTypeEnum::valueOf);
 
         // Project type might not be available in the rare case that the workflow at the
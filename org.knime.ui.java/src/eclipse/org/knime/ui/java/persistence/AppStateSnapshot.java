@@ -0,0 +1,278 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.persistence;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.gateway.impl.project.Origin;
+import org.knime.gateway.impl.project.ProjectManager;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+import org.knime.ui.java.util.DesktopAPUtil;
+import org.knime.ui.java.util.MostRecentlyUsedProjects;
+import org.knime.ui.java.util.MostRecentlyUsedProjects.RecentlyUsedProject;
+
+/**
+ * Keeps the serialized app state (see {@link AppStatePersistor#serializeAppState(ProjectManager,
+ * MostRecentlyUsedProjects, LocalSpace)}) incrementally up-to-date while the application is running, such that
+ * serializing it on shutdown only costs as much as what has changed since the last update.
+ * <p>
+ * The open projects and the recently used projects are tracked separately: a change signaled via
+ * {@link #projectsChanged()}, {@link #recentlyUsedProjectsChanged()} or {@link #localItemsChanged()} marks the
+ * respective part as dirty and schedules a background update which only re-serializes the dirty parts. Within a part,
+ * every project is serialized into a separate json fragment which is re-used as long as the information it has been
+ * created from (name, active-state, origin and relative path) doesn't change.
+ * <p>
+ * Not every change is necessarily signaled (e.g. items renamed outside of the application), hence {@link #get()}
+ * checks every fragment against the current state of its project before returning the snapshot. That only costs
+ * determining the relative paths of the local projects; only fragments that turn out to be outdated are
+ * re-serialized.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class AppStateSnapshot {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AppStateSnapshot.class);
+
+    private final ProjectManager m_projectManager;
+
+    private final MostRecentlyUsedProjects m_mostRecentlyUsedProjects;
+
+    private final LocalSpace m_localSpace;
+
+    private final ExecutorService m_executor = DesktopAPUtil.newWorkerPool("App-State-Snapshot", 1);
+
+    private final AtomicBoolean m_projectsDirty = new AtomicBoolean(true);
+
+    private final AtomicBoolean m_recentlyUsedProjectsDirty = new AtomicBoolean(true);
+
+    private final AtomicBoolean m_updateScheduled = new AtomicBoolean();
+
+    // guarded by 'this'
+    private Map<ProjectFragmentKey, String> m_projectFragments = Map.of();
+
+    // guarded by 'this'
+    private Map<RUProjectFragmentKey, String> m_recentlyUsedProjectFragments = Map.of();
+
+    // guarded by 'this'
+    private List<String> m_serializedProjects = List.of();
+
+    // guarded by 'this'
+    private List<String> m_serializedRecentlyUsedProjects = List.of();
+
+    // guarded by 'this'
+    private String m_serializedAppState;
+
+    private AppStateSnapshot(final ProjectManager projectManager,
+        final MostRecentlyUsedProjects mostRecentlyUsedProjects, final LocalSpace localSpace) {
+        m_projectManager = projectManager;
+        m_mostRecentlyUsedProjects = mostRecentlyUsedProjects;
+        m_localSpace = localSpace;
+    }
+
+    /**
+     * Creates a new snapshot which is automatically notified about changes to the recently used projects. Changes to
+     * the open projects and to local space items must be signaled explicitly (see {@link #projectsChanged()} and
+     * {@link #localItemsChanged()}).
+     *
+     * @param projectManager supplies the projects to serialize
+     * @param mostRecentlyUsedProjects supplies the recently used projects to serialize
+     * @param localSpace instance of the local space
+     * @return a new instance
+     */
+    public static AppStateSnapshot create(final ProjectManager projectManager,
+        final MostRecentlyUsedProjects mostRecentlyUsedProjects, final LocalSpace localSpace) {
+        var snapshot = new AppStateSnapshot(projectManager, mostRecentlyUsedProjects, localSpace);
+        mostRecentlyUsedProjects.addChangeListener(snapshot::recentlyUsedProjectsChanged);
+        return snapshot;
+    }
+
+    /**
+     * Signals that the open projects have (potentially) changed, e.g. opened, closed or activated.
+     */
+    public void projectsChanged() {
+        m_projectsDirty.set(true);
+        scheduleUpdate();
+    }
+
+    /**
+     * Signals that the recently used projects have (potentially) changed.
+     */
+    public void recentlyUsedProjectsChanged() {
+        m_recentlyUsedProjectsDirty.set(true);
+        scheduleUpdate();
+    }
+
+    /**
+     * Signals that items in the local space have been renamed or moved. The relative path is part of the serialized
+     * origin of local (recently used) projects.
+     */
+    public void localItemsChanged() {
+        m_projectsDirty.set(true);
+        m_recentlyUsedProjectsDirty.set(true);
+        scheduleUpdate();
+    }
+
+    /**
+     * Updates the snapshot asynchronously. Multiple calls in quick succession are coalesced into a single update.
+     */
+    private void scheduleUpdate() {
+        if (m_updateScheduled.compareAndSet(false, true)) {
+            m_executor.execute(() -> {
+                m_updateScheduled.set(false);
+                try {
+                    update();
+                } catch (RuntimeException e) { // NOSONAR
+                    // e.g. concurrently modified projects - the part stays dirty and is caught up with next time
+                    LOGGER.debug("Failed to update the app state snapshot", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks every fragment against the current state of its project, re-serializes the outdated ones and returns the
+     * snapshot.
+     *
+     * @return the app state serialized into a string, equivalent to what
+     *         {@link AppStatePersistor#serializeAppState(ProjectManager, MostRecentlyUsedProjects, LocalSpace)} returns
+     */
+    public synchronized String get() {
+        // changes might not have been signaled (yet)
+        m_projectsDirty.set(true);
+        m_recentlyUsedProjectsDirty.set(true);
+        update();
+        return m_serializedAppState;
+    }
+
+    private synchronized void update() {
+        var projectsChanged = false;
+        if (m_projectsDirty.getAndSet(false)) {
+            try {
+                projectsChanged = updateProjects();
+            } catch (RuntimeException e) {
+                m_projectsDirty.set(true);
+                throw e;
+            }
+        }
+        var recentlyUsedProjectsChanged = false;
+        if (m_recentlyUsedProjectsDirty.getAndSet(false)) {
+            try {
+                recentlyUsedProjectsChanged = updateRecentlyUsedProjects();
+            } catch (RuntimeException e) {
+                m_recentlyUsedProjectsDirty.set(true);
+                throw e;
+            }
+        }
+        if (m_serializedAppState == null || projectsChanged || recentlyUsedProjectsChanged) {
+            m_serializedAppState =
+                AppStatePersistor.assembleAppState(m_serializedProjects, m_serializedRecentlyUsedProjects);
+        }
+    }
+
+    private boolean updateProjects() {
+        var projectFragments = new HashMap<ProjectFragmentKey, String>();
+        var serializedProjects = new ArrayList<String>();
+        for (var project : AppStatePersistor.getProjectsToPersist(m_projectManager)) {
+            var origin = project.getOrigin().orElseThrow();
+            var key = new ProjectFragmentKey(project.getName(), m_projectManager.isActiveProject(project.getID()),
+                origin, getRelativePath(origin));
+            var fragment = m_projectFragments.get(key);
+            if (fragment == null) {
+                fragment = AppStatePersistor.serializeProject(m_projectManager, project, m_localSpace);
+            }
+            projectFragments.put(key, fragment);
+            serializedProjects.add(fragment);
+        }
+        var changed = !serializedProjects.equals(m_serializedProjects);
+        m_projectFragments = projectFragments;
+        m_serializedProjects = serializedProjects;
+        return changed;
+    }
+
+    private boolean updateRecentlyUsedProjects() {
+        var recentlyUsedProjectFragments = new HashMap<RUProjectFragmentKey, String>();
+        var serializedRecentlyUsedProjects = new ArrayList<String>();
+        for (var project : m_mostRecentlyUsedProjects.get()) {
+            var key = new RUProjectFragmentKey(project, getRelativePath(project.origin()));
+            var fragment = m_recentlyUsedProjectFragments.get(key);
+            if (fragment == null) {
+                fragment = AppStatePersistor.serializeRUProject(project, m_localSpace);
+            }
+            recentlyUsedProjectFragments.put(key, fragment);
+            serializedRecentlyUsedProjects.add(fragment);
+        }
+        var changed = !serializedRecentlyUsedProjects.equals(m_serializedRecentlyUsedProjects);
+        m_recentlyUsedProjectFragments = recentlyUsedProjectFragments;
+        m_serializedRecentlyUsedProjects = serializedRecentlyUsedProjects;
+        return changed;
+    }
+
+    /**
+     * The relative path is part of the serialized origin of local projects but, other than the origin itself, changes
+     * if the project is moved or renamed.
+     */
+    private String getRelativePath(final Origin origin) {
+        return origin.isLocal() ? m_localSpace.toLocalRelativePath(origin.itemId()).map(Path::toString).orElse(null)
+            : null;
+    }
+
+    private record ProjectFragmentKey(String name, boolean active, Origin origin, String relativePath) {
+    }
+
+    private record RUProjectFragmentKey(RecentlyUsedProject project, String relativePath) {
+    }
+
+}
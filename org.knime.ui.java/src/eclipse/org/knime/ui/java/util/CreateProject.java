@@ -46,7 +46,10 @@
 
 package org.knime.ui.java.util;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.eclipse.core.runtime.SubMonitor;
 import org.knime.core.node.ExecutionMonitor;
@@ -55,6 +58,7 @@ import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.node.workflow.contextv2.LocationInfo;
 import org.knime.core.node.workflow.contextv2.RestLocationInfo;
 import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.util.FileUtil;
 import org.knime.core.util.ProgressMonitorAdapter;
 import org.knime.gateway.api.service.GatewayException;
 import org.knime.gateway.api.util.VersionId;
@@ -71,6 +75,10 @@ import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 
 /**
  * Static logic to load and create projects.
+ * <p>
+ * Downloads of fixed versions of remote items are kept in the {@link HubWorkflowCache}. Note that re-using a cached
+ * download still requires the space to be reachable since the access to the item is checked via
+ * {@link Space#getLocationInfo(String, VersionId)} first.
  */
 public final class CreateProject {
 
@@ -86,27 +94,29 @@ public final class CreateProject {
      * @param origin -
      * @param progressReporter -
      * @param space -
+     * @param spaceMetadata to look up the item's metadata with
      * @return -
      * @throws LoggedOutException
      * @throws NetworkException
      * @throws ServiceCallException
      */
     public static Project createProjectFromOrigin(final Origin origin, final ProgressReporter progressReporter,
-        final Space space) throws NetworkException, LoggedOutException, ServiceCallException {
+        final Space space, final SpaceMetadataCache spaceMetadata)
+        throws NetworkException, LoggedOutException, ServiceCallException {
         String name;
         try {
-            name = space.getItemName(origin.itemId());
+            name = spaceMetadata.getItemName(origin.providerId(), space, origin.itemId());
         } catch (final MutableServiceCallException e) {
             throw e.toGatewayException("Failed to open project");
         }
         var projectId = Project.getUniqueProjectId(name);
-        return createProjectFromOrigin(projectId, name, origin, progressReporter, space);
+        return createProjectFromOrigin(projectId, name, origin, progressReporter, space, spaceMetadata);
     }
 
     private static Project createProjectFromOrigin(final String projectId, final String name, final Origin origin,
-        final ProgressReporter progressReporter, final Space space) {
+        final ProgressReporter progressReporter, final Space space, final SpaceMetadataCache spaceMetadata) {
         return Project.builder() //
-            .setWfmLoader(fromOriginWithProgressReporter(origin, progressReporter, space)) //
+            .setWfmLoader(fromOriginWithProgressReporter(origin, name, progressReporter, space, spaceMetadata)) //
             .setName(name) //
             .setId(projectId) //
             .setOrigin(origin) //
@@ -120,12 +130,14 @@ public final class CreateProject {
      *           the calling instance of {@link org.knime.ui.java.persistence.AppStatePersistor} is constructed before
      *           the SpaceProvider dependency is set (namely in `Create` and not in `Init`).
      * @param origin Locates the space item to load from
+     * @param name the name of the space item
      * @param progressReporter to report loading state to
      * @param spaceProviders -
+     * @param spaceMetadata -
      * @return A loader instance that can be called to load the {@link WorkflowManager}
      */
-    private static WorkflowManagerLoader fromOriginWithProgressReporter(final Origin origin,
-        final ProgressReporter progressReporter, final Space space) {
+    private static WorkflowManagerLoader fromOriginWithProgressReporter(final Origin origin, final String name,
+        final ProgressReporter progressReporter, final Space space, final SpaceMetadataCache spaceMetadata) {
         return version -> progressReporter.getWithProgress( // NOSONAR
             WorkflowManagerLoader.LOADING_WORKFLOW_PROGRESS_MSG, //
             LOGGER, //
@@ -134,16 +146,20 @@ public final class CreateProject {
                     SubMonitor.convert(monitor, WorkflowManagerLoader.LOADING_WORKFLOW_PROGRESS_MSG, 100);
 
                 final var execMon = new ExecutionMonitor(new ProgressMonitorAdapter(subMonitor)); // one tick/percent
-                var path = WorkflowManagerLoader.fetch(origin, version, space, execMon);
+                var path = fetchOrGetFromCache(origin, name, version, space, execMon);
                 if (path.isEmpty()) {
                     LOGGER.error("Could not fetch workflow from origin " + origin);
                     return null;
                 }
 
                 try {
-                    final var workflowContext = createWorkflowContext(space, origin.itemId(), path.get(), version);
+                    final var workflowContext =
+                        createWorkflowContext(space, spaceMetadata, origin, path.get(), version);
+                    // before loading since the loaded workflow is locked and might be written to
+                    cacheDownload(origin, version, space, path.get());
                     monitor.subTask("Loading workflow from disk");
-                    return DesktopAPUtil.loadWorkflowManager(subMonitor.slice(0), path.get(), workflowContext, version);
+                    return DesktopAPUtil.loadWorkflowManager(subMonitor.slice(0), path.get(), workflowContext,
+                        version);
                 } catch (final GatewayException | MutableServiceCallException e) {
                     LOGGER.error(e);
                     return null;
@@ -151,10 +167,60 @@ public final class CreateProject {
             }).orElse(null);
     }
 
-    private static WorkflowContextV2 createWorkflowContext(final Space space, final String itemId, final Path path,
-        final VersionId version) throws NetworkException, LoggedOutException, MutableServiceCallException {
-        final var mountId = space.toKnimeUrl(itemId).getAuthority();
-        final var location = space.getLocationInfo(itemId, version);
+    /**
+     * Fetches the workflow or, for fixed versions of remote items, re-uses a previous download from the
+     * {@link HubWorkflowCache}. A cached download is only re-used if the item's metadata can still be retrieved
+     * (bypassing the {@link SpaceMetadataCache}), i.e. if the user still has access to it.
+     */
+    private static Optional<Path> fetchOrGetFromCache(final Origin origin, final String name,
+        final VersionId version, final Space space, final ExecutionMonitor execMon) {
+        if (space instanceof LocalSpace || !(version instanceof VersionId.Fixed fixedVersion)) {
+            return WorkflowManagerLoader.fetch(origin, version, space, execMon);
+        }
+        File tempDir = null;
+        try {
+            tempDir = FileUtil.createTempDir("knime-ui-version");
+            var workflowDir = tempDir.toPath().resolve(name);
+            if (HubWorkflowCache.getInstance().copyTo(origin.providerId(), origin.itemId(), fixedVersion.id(),
+                workflowDir, () -> hasAccess(space, origin.itemId(), version))) {
+                return Optional.of(workflowDir);
+            }
+        } catch (IOException e) { // NOSONAR
+            LOGGER.warn("Failed to re-use cached download of " + origin + ". Fetching it again.", e);
+        }
+        if (tempDir != null) {
+            FileUtil.deleteRecursively(tempDir);
+        }
+        return WorkflowManagerLoader.fetch(origin, version, space, execMon);
+    }
+
+    /**
+     * Adds the download of a fixed version of a remote item to the {@link HubWorkflowCache}. Needs to be done before
+     * the workflow is loaded from the download, i.e. while it's still unmodified. Nothing is done if the version is
+     * already cached.
+     */
+    private static void cacheDownload(final Origin origin, final VersionId version, final Space space,
+        final Path workflowDir) {
+        if (!(space instanceof LocalSpace) && version instanceof VersionId.Fixed fixedVersion) {
+            DesktopAPUtil.cacheDownload(origin.providerId(), origin.itemId(), fixedVersion.id(), workflowDir);
+        }
+    }
+
+    private static boolean hasAccess(final Space space, final String itemId, final VersionId version) {
+        try {
+            space.getLocationInfo(itemId, version);
+            return true;
+        } catch (Exception e) { // NOSONAR
+            LOGGER.debug("Item '" + itemId + "' isn't accessible (anymore). Cached download not re-used.", e);
+            return false;
+        }
+    }
+
+    private static WorkflowContextV2 createWorkflowContext(final Space space, final SpaceMetadataCache spaceMetadata,
+        final Origin origin, final Path path, final VersionId version)
+        throws NetworkException, LoggedOutException, MutableServiceCallException {
+        final var mountId = spaceMetadata.toKnimeUrl(origin.providerId(), space, origin.itemId()).getAuthority();
+        final var location = spaceMetadata.getLocationInfo(origin.providerId(), space, origin.itemId(), version);
         // TODO A local space root makes no sense for remote mountpoints
         //  see AP-22097 Remove Requirement for Local Mountpoint Root Path from `WorkflowContextV2`
         final var localSpaceRoot = getLocalRoot(space, location, path);
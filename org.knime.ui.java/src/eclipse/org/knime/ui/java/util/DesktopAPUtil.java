@@ -58,8 +58,11 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -124,6 +127,8 @@ public final class DesktopAPUtil {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DesktopAPUtil.class);
 
+    private static final Duration MOUNTPOINT_FETCH_TIMEOUT = Duration.ofMinutes(5);
+
     private DesktopAPUtil() {
         // utility
     }
@@ -473,6 +478,23 @@ public final class DesktopAPUtil {
         }
     }
 
+    /**
+     * Creates a bounded pool of daemon worker threads, e.g., to run long-running (remote) operations on multiple items
+     * in parallel. The pool must be shut down by the caller.
+     *
+     * @param name the name of the pool, part of the thread names
+     * @param parallelism the number of threads
+     * @return a new executor service
+     */
+    public static ExecutorService newWorkerPool(final String name, final int parallelism) {
+        var threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            var thread = new Thread(runnable, "KNIME-UI-" + name + "-Worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Downloads a remote workflow into a temporary directory.
      *
@@ -486,6 +508,20 @@ public final class DesktopAPUtil {
             progress -> downloadWorkflow(progress, repoObjectImport, remoteLocation));
     }
 
+    /**
+     * Adds the downloaded workflow directory of a fixed item version to the {@link HubWorkflowCache}. Failures are only
+     * logged since caching is an optimization.
+     */
+    static void cacheDownload(final String providerId, final String itemId, final int version,
+        final Path workflowDir) {
+        try {
+            HubWorkflowCache.getInstance().put(providerId, itemId, version, workflowDir);
+        } catch (IOException | RuntimeException e) { // NOSONAR
+            // caching is an optimization only, hence the download can still be opened
+            LOGGER.warn("Failed to cache download of version " + version + " of item '" + itemId + "'", e);
+        }
+    }
+
     /**
      * Downloads a remote workflow into a temporary directory using the given {@link HttpURLConnection} supplier.
      */
@@ -583,7 +619,8 @@ public final class DesktopAPUtil {
      * receives a {@link RemoteExplorerFileInfo} which claims that it is neither for a workflow nor for a component.
      * Since we can't access anything from here which could tell us directly when the mountpoint is finished loading, we
      * ask {@link AbstractContentProvider} for the source workflow's (hypothetical) children instead and check whether a
-     * message with a specific string content is returned.
+     * message with a specific string content is returned. That's only done again once the content provider notifies
+     * about changed content, see {@link FetchCompletionLatch}.
      *
      * @param progress progress monitor
      * @param fileStore source file store
@@ -596,14 +633,14 @@ public final class DesktopAPUtil {
         final var provider = fileStore.getContentProvider();
         if (fileStore instanceof RemoteExplorerFileStore) {
             progress.subTask("Waiting for remote directory to load...");
-            for (var i = 0; i < 600; i++) {
-                if (progress.isCanceled()) {
-                    return false;
-                }
-                if (!isMountpointFetching(provider, fileStore)) {
-                    break;
+            try {
+                if (!FetchCompletionLatch.await(provider, () -> !isMountpointFetching(provider, fileStore),
+                    MOUNTPOINT_FETCH_TIMEOUT, progress::isCanceled)) {
+                    LOGGER.warn("Remote directory '" + fileStore.getMountIDWithFullPath() + "' not loaded within "
+                        + MOUNTPOINT_FETCH_TIMEOUT.toMinutes() + " minutes. Continuing anyway.");
                 }
-                Thread.sleep(500);
+            } catch (CanceledExecutionException e) { // NOSONAR
+                return false;
             }
         }
         return true;
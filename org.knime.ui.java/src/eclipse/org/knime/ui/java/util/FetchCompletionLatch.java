@@ -0,0 +1,170 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.time.Duration;
+import java.util.Observable;
+import java.util.Observer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * Waits for an explorer content provider to finish fetching (remote) content. Instead of repeatedly asking the
+ * provider for the content, the waiting thread is woken up whenever the provider notifies its observers about changed
+ * content (which it does once a fetch is done) and only then checks again.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+@SuppressWarnings("deprecation") // the content providers notify about changes via Observable
+final class FetchCompletionLatch implements Observer {
+
+    /**
+     * How often cancellation is checked while waiting.
+     */
+    private static final long CANCEL_CHECK_INTERVAL_MS = 100;
+
+    /**
+     * How often the content is checked again even without notification, in case a fetch finishes without the
+     * provider notifying about it. Short enough that such a fetch doesn't noticeably delay the waiting thread.
+     */
+    private static final long RECHECK_INTERVAL_MS = 500;
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    private final Condition m_changed = m_lock.newCondition();
+
+    private long m_numChanges;
+
+    private FetchCompletionLatch() {
+        // use await
+    }
+
+    @Override
+    public void update(final Observable source, final Object changedItem) {
+        m_lock.lock();
+        try {
+            m_numChanges++;
+            m_changed.signalAll();
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the content is fetched, the timeout elapsed or the waiting is canceled.
+     *
+     * @param source the content provider notifying about changed content
+     * @param isFetched whether the content has been fetched; only called initially and after the source notified
+     *            about changes (or, as a fallback, once in a while)
+     * @param timeout the maximum time to wait
+     * @param isCanceled whether to stop waiting
+     * @return {@code true} if the content has been fetched, {@code false} if the timeout elapsed before
+     * @throws CanceledExecutionException if the waiting has been canceled
+     * @throws InterruptedException if the waiting thread has been interrupted
+     */
+    static boolean await(final Observable source, final BooleanSupplier isFetched, final Duration timeout,
+        final BooleanSupplier isCanceled) throws CanceledExecutionException, InterruptedException {
+        final var latch = new FetchCompletionLatch();
+        source.addObserver(latch);
+        try {
+            return latch.await(isFetched, System.nanoTime() + timeout.toNanos(), isCanceled);
+        } finally {
+            source.deleteObserver(latch);
+        }
+    }
+
+    private boolean await(final BooleanSupplier isFetched, final long deadline, final BooleanSupplier isCanceled)
+        throws CanceledExecutionException, InterruptedException {
+        while (true) {
+            final long numChangesBeforeCheck = getNumChanges();
+            // checked without holding the lock since the source might notify (from another thread) while being asked
+            if (isFetched.getAsBoolean()) {
+                return true;
+            }
+            final var recheckAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RECHECK_INTERVAL_MS);
+            m_lock.lock();
+            try {
+                while (true) {
+                    checkCanceled(isCanceled);
+                    final var now = System.nanoTime();
+                    if (now - deadline >= 0) {
+                        return false;
+                    }
+                    if (m_numChanges != numChangesBeforeCheck || now - recheckAt >= 0) {
+                        break;
+                    }
+                    m_changed.await(Math.min(TimeUnit.MILLISECONDS.toNanos(CANCEL_CHECK_INTERVAL_MS), deadline - now),
+                        TimeUnit.NANOSECONDS);
+                }
+            } finally {
+                m_lock.unlock();
+            }
+        }
+    }
+
+    private static void checkCanceled(final BooleanSupplier isCanceled) throws CanceledExecutionException {
+        if (isCanceled.getAsBoolean()) {
+            throw new CanceledExecutionException("Waiting for the content to be fetched canceled");
+        }
+    }
+
+    private long getNumChanges() {
+        m_lock.lock();
+        try {
+            return m_numChanges;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,453 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Caches workflows downloaded from a Hub, keyed by space provider, item id and version, such that re-opening or
+ * switching to the very same version doesn't need to download it again. Only fixed item versions are cached since
+ * they, other than the current state of an item, never change.
+ * <p>
+ * The cache is persisted under the KNIME home directory and hence survives restarts. Its size is bounded by the
+ * {@value #MAX_SIZE_MB_PROPERTY} system property; the least recently used entries are evicted first. Every entry is
+ * stored together with a checksum of its content which is computed while the entry is copied in and validated while it
+ * is copied out again, i.e. without reading it twice - corrupted entries are dropped. Since the cache outlives the
+ * permissions of the user, the access to an item is checked (by the caller) before a cached copy is handed out.
+ * <p>
+ * Copying from and into the cache happens outside of the cache's monitor, i.e. only accesses to the same entry are
+ * serialized.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class HubWorkflowCache {
+
+    /**
+     * System property to configure the maximum size of the cache in megabytes.
+     */
+    public static final String MAX_SIZE_MB_PROPERTY = "org.knime.ui.hub_workflow_cache.max_size_mb";
+
+    private static final long DEFAULT_MAX_SIZE_MB = 1024;
+
+    private static final String CHECKSUM_FILE_SUFFIX = ".sha256";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HubWorkflowCache.class);
+
+    private static HubWorkflowCache instance;
+
+    /**
+     * Cache statistics since the cache has been created.
+     *
+     * @param hits number of times a cached version has been re-used
+     * @param misses number of times a version wasn't cached (or its cached copy was corrupted or not accessible)
+     * @param evictions number of entries evicted to stay within the size bound
+     * @param corrupted number of entries dropped because their checksum didn't match
+     */
+    public record Statistics(long hits, long misses, long evictions, long corrupted) {
+    }
+
+    private record Entry(Path dir, long size, String checksum) {
+    }
+
+    private final Path m_root;
+
+    private final long m_maxSize;
+
+    /**
+     * Entries in access-order, i.e. the least recently used one first. Guarded by 'this'.
+     */
+    private final LinkedHashMap<String, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Serializes the file system operations on an entry (copying from, into and deleting it). A lock is removed once
+     * its entry is gone (evicted, dropped or never added), see {@link #unlockEntry(String, ReentrantLock)}.
+     */
+    private final Map<String, ReentrantLock> m_entryLocks = new ConcurrentHashMap<>();
+
+    private long m_size;
+
+    private long m_hits;
+
+    private long m_misses;
+
+    private long m_evictions;
+
+    private long m_corrupted;
+
+    /**
+     * Creates a new cache, picking up the entries already present in the given directory.
+     *
+     * @param root the directory to keep the cached workflows in
+     * @param maxSize the maximum size of all cached workflows in bytes
+     * @throws IOException if the cache directory couldn't be read
+     */
+    HubWorkflowCache(final Path root, final long maxSize) throws IOException {
+        m_root = root;
+        m_maxSize = maxSize;
+        Files.createDirectories(root);
+        restoreEntries();
+    }
+
+    /**
+     * @return the application-wide cache instance
+     * @throws IOException if the cache directory couldn't be created or read
+     */
+    public static synchronized HubWorkflowCache getInstance() throws IOException {
+        if (instance == null) {
+            var root = Path.of(KNIMEConstants.getKNIMEHomeDir(), "knime-ui", "hub-workflow-cache");
+            var maxSizeMb = Math.max(0, Long.getLong(MAX_SIZE_MB_PROPERTY, DEFAULT_MAX_SIZE_MB));
+            instance = new HubWorkflowCache(root, maxSizeMb * 1024 * 1024);
+        }
+        return instance;
+    }
+
+    private void restoreEntries() throws IOException {
+        record RestoredEntry(String key, Entry entry, FileTime lastAccess) {
+        }
+        var restored = new ArrayList<RestoredEntry>();
+        try (var children = Files.list(m_root)) {
+            for (var child : children.toList()) {
+                var key = child.getFileName().toString();
+                var checksumFile = checksumFile(key);
+                if (!Files.isDirectory(child)) {
+                    continue;
+                }
+                if (!Files.isRegularFile(checksumFile)) {
+                    // left-over of an interrupted copy
+                    FileUtil.deleteRecursively(child.toFile());
+                    continue;
+                }
+                var entry = new Entry(child, sizeOf(child), Files.readString(checksumFile).trim());
+                restored.add(new RestoredEntry(key, entry, Files.getLastModifiedTime(checksumFile)));
+            }
+        }
+        restored.sort(Comparator.comparing(RestoredEntry::lastAccess));
+        synchronized (this) {
+            for (var r : restored) {
+                m_entries.put(r.key(), r.entry());
+                m_size += r.entry().size();
+            }
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * Copies the cached download of the given item version into the given directory, if available, not corrupted and
+     * still accessible.
+     *
+     * @param providerId the id of the space provider the item has been downloaded from
+     * @param itemId the id of the downloaded item
+     * @param version the downloaded (fixed) version of the item
+     * @param destDir the directory to copy the download into; must not exist yet
+     * @param hasAccess whether the user (still) has access to the item, e.g. determined via a metadata request; only
+     *            asked if the item version is cached
+     * @return {@code true} if the item version was cached and has been copied, {@code false} otherwise
+     * @throws IOException if the copying failed
+     */
+    public boolean copyTo(final String providerId, final String itemId, final int version, final Path destDir,
+        final BooleanSupplier hasAccess) throws IOException {
+        var key = toKey(providerId, itemId, version);
+        var lock = lockEntry(key);
+        try {
+            final Entry entry;
+            synchronized (this) {
+                entry = m_entries.get(key);
+                if (entry == null) {
+                    m_misses++;
+                    return false;
+                }
+            }
+            if (!hasAccess.getAsBoolean()) {
+                countMiss();
+                return false;
+            }
+            if (!entry.checksum().equals(copyWithChecksum(entry.dir(), destDir))) {
+                LOGGER.warn(
+                    "Cached download of version " + version + " of item '" + itemId + "' is corrupted. Dropped.");
+                FileUtil.deleteRecursively(destDir.toFile());
+                synchronized (this) {
+                    if (m_entries.remove(key, entry)) {
+                        m_size -= entry.size();
+                    }
+                    m_corrupted++;
+                    m_misses++;
+                }
+                deleteFiles(key, entry);
+                return false;
+            }
+            Files.setLastModifiedTime(checksumFile(key), FileTime.from(Instant.now()));
+        } finally {
+            unlockEntry(key, lock);
+        }
+        synchronized (this) {
+            m_hits++;
+        }
+        LOGGER.debug("Re-used cached download of version " + version + " of item '" + itemId + "'");
+        return true;
+    }
+
+    /**
+     * Adds a copy of the given download to the cache (unless already cached) and evicts the least recently used
+     * entries if the cache exceeds its size bound.
+     *
+     * @param providerId the id of the space provider the item has been downloaded from
+     * @param itemId the id of the downloaded item
+     * @param version the downloaded (fixed) version of the item
+     * @param downloadDir the directory containing the download; must not be modified while being added
+     * @throws IOException if the download couldn't be copied into the cache
+     */
+    public void put(final String providerId, final String itemId, final int version, final Path downloadDir)
+        throws IOException {
+        var key = toKey(providerId, itemId, version);
+        var lock = lockEntry(key);
+        try {
+            synchronized (this) {
+                if (m_entries.containsKey(key)) {
+                    return;
+                }
+            }
+            var size = sizeOf(downloadDir);
+            if (size > m_maxSize) {
+                return;
+            }
+            var entryDir = m_root.resolve(key);
+            if (Files.exists(entryDir)) {
+                // left-over of an evicted entry which hasn't been deleted yet
+                deleteFiles(key, new Entry(entryDir, 0, null));
+            }
+            // copy into a temporary sibling first such that an incomplete copy is never picked up
+            var tmpDir = Files.createTempDirectory(m_root, key + "_");
+            try {
+                var checksum = copyWithChecksum(downloadDir, tmpDir);
+                Files.move(tmpDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+                Files.writeString(checksumFile(key), checksum);
+                synchronized (this) {
+                    m_entries.put(key, new Entry(entryDir, size, checksum));
+                    m_size += size;
+                }
+            } finally {
+                if (Files.exists(tmpDir)) {
+                    FileUtil.deleteRecursively(tmpDir.toFile());
+                }
+            }
+        } finally {
+            unlockEntry(key, lock);
+        }
+        evictIfNecessary();
+    }
+
+    /**
+     * @return the cache statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(m_hits, m_misses, m_evictions, m_corrupted);
+    }
+
+    /**
+     * @return the size of all cached workflows in bytes
+     */
+    public synchronized long getSize() {
+        return m_size;
+    }
+
+    private synchronized void countMiss() {
+        m_misses++;
+    }
+
+    /**
+     * Acquires the lock of the given entry, making sure it's the one currently registered for the entry (and not one
+     * that has just been removed).
+     */
+    private ReentrantLock lockEntry(final String key) {
+        while (true) {
+            var lock = m_entryLocks.computeIfAbsent(key, k -> new ReentrantLock());
+            lock.lock();
+            if (m_entryLocks.get(key) == lock) {
+                return lock;
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the lock of the given entry and removes it if there is no such entry (anymore), such that the number of
+     * locks is bounded by the number of entries (plus the number of ongoing operations).
+     */
+    private void unlockEntry(final String key, final ReentrantLock lock) {
+        try {
+            synchronized (this) {
+                if (!m_entries.containsKey(key)) {
+                    m_entryLocks.remove(key, lock);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfNecessary() throws IOException {
+        var toEvict = new LinkedHashMap<String, Entry>();
+        synchronized (this) {
+            // iterating the entries (other than 'get') doesn't affect the access-order
+            var it = m_entries.entrySet().iterator();
+            while (m_size > m_maxSize && it.hasNext()) {
+                var entry = it.next();
+                toEvict.put(entry.getKey(), entry.getValue());
+                m_size -= entry.getValue().size();
+                m_evictions++;
+                it.remove();
+            }
+        }
+        for (var entry : toEvict.entrySet()) {
+            var lock = lockEntry(entry.getKey());
+            try {
+                deleteFiles(entry.getKey(), entry.getValue());
+            } finally {
+                unlockEntry(entry.getKey(), lock);
+            }
+        }
+    }
+
+    /**
+     * Deletes the files of an entry that has been removed from the entries. Must be called while holding the entry's
+     * lock.
+     */
+    private void deleteFiles(final String key, final Entry entry) throws IOException {
+        synchronized (this) {
+            if (m_entries.containsKey(key)) {
+                // re-added in the meantime
+                return;
+            }
+        }
+        Files.deleteIfExists(checksumFile(key));
+        FileUtil.deleteRecursively(entry.dir().toFile());
+    }
+
+    private Path checksumFile(final String key) {
+        return m_root.resolve(key + CHECKSUM_FILE_SUFFIX);
+    }
+
+    private static String toKey(final String providerId, final String itemId, final int version) {
+        // provider and item ids might contain characters not allowed in file names
+        return HexFormat.of().formatHex((providerId + "/" + itemId).getBytes(StandardCharsets.UTF_8)) + "_" + version;
+    }
+
+    private static long sizeOf(final Path dir) throws IOException {
+        try (var files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(f -> {
+                try {
+                    return Files.size(f);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).sum();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Copies the given directory and computes a checksum over the relative paths and the contents of all its files
+     * while doing so, i.e. the files are read once only.
+     *
+     * @param srcDir the directory to copy
+     * @param destDir the directory to copy into; must not exist yet
+     * @return the checksum of the content of the source directory
+     */
+    private static String copyWithChecksum(final Path srcDir, final Path destDir) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        final List<Path> paths;
+        try (var stream = Files.walk(srcDir)) {
+            paths = stream.sorted().toList();
+        }
+        for (var path : paths) {
+            var relativePath = srcDir.relativize(path);
+            var destPath = destDir.resolve(relativePath.toString());
+            if (Files.isDirectory(path)) {
+                Files.createDirectories(destPath);
+            } else if (Files.isRegularFile(path)) {
+                digest.update(relativePath.toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                    Files.copy(in, destPath);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+}
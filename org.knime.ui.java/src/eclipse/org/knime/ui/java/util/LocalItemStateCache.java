@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
+import org.knime.gateway.api.webui.service.util.ServiceExceptions.LoggedOutException;
+import org.knime.gateway.api.webui.service.util.ServiceExceptions.NetworkException;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+
+/**
+ * Caches whether items of the {@link LocalSpace} (still) exist and what their ancestor item ids are, e.g., to be able
+ * to return the most recently used projects without determining the ancestors on every call.
+ * <p>
+ * A cached state is returned as is for a short time after it has been determined or validated. Afterwards it's
+ * validated cheaply on the next request: it stays valid if the item still has the same path and the item's directory
+ * still has the same last-modified time (or still doesn't exist). Otherwise the state is determined again. Since
+ * nothing is watched, this also works for local spaces on network mounts and doesn't keep any directories open.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class LocalItemStateCache {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(2);
+
+    private final LocalSpace m_localSpace;
+
+    private final long m_ttlNanos;
+
+    private final LongSupplier m_nanoTime;
+
+    private final Map<String, ItemState> m_states = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation. Used to detect invalidations that happen while an item state is being
+     * determined.
+     */
+    private final AtomicLong m_invalidationCount = new AtomicLong();
+
+    /**
+     * @param path the absolute path of the item, {@code null} if not known
+     * @param lastModified the last-modified time of the item's directory, {@code null} if it doesn't exist
+     * @param exists whether the item exists
+     * @param ancestorItemIds the item ids of the item's ancestors, empty if the item doesn't exist
+     * @param validatedAt when the state has been determined or validated the last time, in nanoseconds
+     */
+    private record ItemState(Path path, FileTime lastModified, boolean exists, List<String> ancestorItemIds,
+        long validatedAt) {
+
+        boolean isAtOrBelow(final Path changedPath) {
+            return path != null && path.startsWith(changedPath);
+        }
+
+        ItemState validatedAt(final long now) {
+            return new ItemState(path, lastModified, exists, ancestorItemIds, now);
+        }
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param localSpace the local space whose items are to be cached
+     */
+    public LocalItemStateCache(final LocalSpace localSpace) {
+        this(localSpace, DEFAULT_TTL, System::nanoTime);
+    }
+
+    /**
+     * @param localSpace the local space whose items are to be cached
+     * @param ttl for how long a cached state is returned without validating it
+     * @param nanoTime the time source
+     */
+    LocalItemStateCache(final LocalSpace localSpace, final Duration ttl, final LongSupplier nanoTime) {
+        m_localSpace = localSpace;
+        m_ttlNanos = ttl.toNanos();
+        m_nanoTime = nanoTime;
+    }
+
+    /**
+     * @param itemId the id of a local item
+     * @return whether the item (still) exists
+     */
+    public boolean exists(final String itemId) {
+        return getState(itemId).exists();
+    }
+
+    /**
+     * @param itemId the id of a local item
+     * @return the ids of the ancestors of the given item (as determined by
+     *         {@link LocalSpace#getAncestorItemIds(String)}); an empty list if the item doesn't exist
+     * @throws IllegalStateException if the ancestors couldn't be determined
+     */
+    public List<String> getAncestorItemIds(final String itemId) {
+        return getState(itemId).ancestorItemIds();
+    }
+
+    /**
+     * Drops the cached state of the given item and of all items below it, e.g., because it is known to have been
+     * renamed or moved.
+     *
+     * @param itemId the id of a local item
+     */
+    public void invalidate(final String itemId) {
+        m_invalidationCount.incrementAndGet();
+        var state = m_states.remove(itemId);
+        if (state != null && state.path() != null) {
+            m_states.values().removeIf(s -> s.isAtOrBelow(state.path()));
+        }
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void dispose() {
+        m_states.clear();
+    }
+
+    private ItemState getState(final String itemId) {
+        var now = m_nanoTime.getAsLong();
+        var state = m_states.get(itemId);
+        if (state != null) {
+            if (now - state.validatedAt() < m_ttlNanos) {
+                return state;
+            }
+            if (isStillValid(itemId, state)) {
+                var validatedState = state.validatedAt(now);
+                m_states.replace(itemId, state, validatedState);
+                return validatedState;
+            }
+        }
+        var invalidationCount = m_invalidationCount.get();
+        state = determineState(itemId, now);
+        m_states.put(itemId, state);
+        if (m_invalidationCount.get() != invalidationCount) {
+            // invalidated while the state was being determined
+            m_states.remove(itemId, state);
+        }
+        return state;
+    }
+
+    private boolean isStillValid(final String itemId, final ItemState state) {
+        var path = m_localSpace.toLocalAbsolutePath(itemId).orElse(null);
+        return path != null && path.equals(state.path()) && Objects.equals(getLastModified(path), state.lastModified());
+    }
+
+    private ItemState determineState(final String itemId, final long now) {
+        var path = m_localSpace.toLocalAbsolutePath(itemId).orElse(null);
+        // determined first such that a change happening afterwards is noticed by the next validation
+        var lastModified = path == null ? null : getLastModified(path);
+        if (!existsInLocalSpace(itemId)) {
+            return new ItemState(path, lastModified, false, List.of(), now);
+        }
+        try {
+            return new ItemState(path, lastModified, true, List.copyOf(m_localSpace.getAncestorItemIds(itemId)),
+                now);
+        } catch (final MutableServiceCallException e) {
+            throw new IllegalStateException("Could not create ancestors",
+                e.toGatewayException("Could not create ancestors"));
+        }
+    }
+
+    private static FileTime getLastModified(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) { // NOSONAR
+            // doesn't exist (anymore) or isn't accessible
+            return null;
+        }
+    }
+
+    private boolean existsInLocalSpace(final String itemId) {
+        try {
+            return m_localSpace.toLocalAbsolutePath(null, itemId).isPresent();
+        } catch (CanceledExecutionException | NetworkException // NOSONAR: We don't care about these exceptions
+                | LoggedOutException | MutableServiceCallException ex) {
+            return false;
+        }
+    }
+
+}
@@ -48,13 +48,16 @@
  */
 package org.knime.ui.java.util;
 
-import static java.lang.String.format;
-
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.SequencedMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.knime.core.node.util.CheckUtils;
@@ -64,35 +67,93 @@ import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
 
 /**
  * Utility class to be able to keep track of the most recently used projects.
+ * <p>
+ * The number of projects kept track of can be configured via the {@value #MAX_NUM_RECENTLY_USED_PROJECTS_PROPERTY}
+ * system property. The projects are indexed by name and (for local projects) relative path such that they can be
+ * searched efficiently, see {@link #search(String, int, int)}.
+ * <p>
+ * This class is thread-safe: it's modified from the UI thread, by desktop API calls and by local space listeners.
+ * Modifications are applied in place (i.e. the index is updated incrementally) while holding a write lock. Readers of
+ * the projects (e.g. the app state serialization) get an immutable list which is only re-created once after a
+ * modification.
  *
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
  */
 public final class MostRecentlyUsedProjects {
 
-    private static final int MAX_NUM_RECENTLY_USED_PROJECTS = 20;
+    /**
+     * System property to configure the maximum number of most recently used projects to keep track of.
+     */
+    public static final String MAX_NUM_RECENTLY_USED_PROJECTS_PROPERTY = "org.knime.ui.mru.max_num_projects";
 
-    private final Map<String, RecentlyUsedProject> m_projects = new LinkedHashMap<>() {
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry<String, RecentlyUsedProject> eldest) {
-            return size() > MAX_NUM_RECENTLY_USED_PROJECTS;
-        }
-    };
+    private static final int DEFAULT_MAX_NUM_RECENTLY_USED_PROJECTS = 20;
+
+    private final int m_capacity;
+
+    private final Function<Origin, String> m_pathResolver;
+
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+
+    /**
+     * The recently used projects, with the most recently used one last. Guarded by {@link #m_lock}.
+     */
+    private final SequencedMap<ProjectKey, RecentlyUsedProject> m_projects = new LinkedHashMap<>();
+
+    /**
+     * The search index over the projects. Guarded by {@link #m_lock}.
+     */
+    private final RecentlyUsedProjectsIndex<ProjectKey> m_index = new RecentlyUsedProjectsIndex<>();
+
+    /**
+     * Immutable copy of the projects as returned by {@link #get()}; {@code null} if it needs to be re-created because
+     * the projects have been modified since.
+     */
+    private volatile List<RecentlyUsedProject> m_snapshot = List.of();
+
+    private final List<Runnable> m_changeListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Only for testing.
      */
     public MostRecentlyUsedProjects() {
+        this(getConfiguredCapacity());
+    }
+
+    /**
+     * Only for testing.
+     *
+     * @param capacity the maximum number of recently used projects to keep track of
+     */
+    public MostRecentlyUsedProjects(final int capacity) {
+        CheckUtils.checkArgument(capacity > 0, "Capacity must be positive");
+        m_capacity = capacity;
+        m_pathResolver = origin -> null;
     }
 
     /**
      * @param localSpace The local space instance to listen to
      */
     public MostRecentlyUsedProjects(final LocalSpace localSpace) {
+        m_capacity = getConfiguredCapacity();
+        m_pathResolver = origin -> origin.isLocal()
+            ? localSpace.toLocalRelativePath(origin.itemId()).map(Path::toString).orElse(null) : null;
         localSpace.addItemRemovedListener(
             removedItemId -> this.removeIf(recentlyUsedProject -> recentlyUsedProject.origin().isLocal()
                 && recentlyUsedProject.origin().itemId().equals(removedItemId)));
     }
 
+    private static int getConfiguredCapacity() {
+        return Math.max(1,
+            Integer.getInteger(MAX_NUM_RECENTLY_USED_PROJECTS_PROPERTY, DEFAULT_MAX_NUM_RECENTLY_USED_PROJECTS));
+    }
+
+    /**
+     * @return the maximum number of recently used projects being kept track of
+     */
+    public int getCapacity() {
+        return m_capacity;
+    }
+
     /**
      * @param project the project to add, see also {@link #add(RecentlyUsedProject)}
      */
@@ -102,19 +163,21 @@ public final class MostRecentlyUsedProjects {
     }
 
     /**
-     * Adds a new recently used project to the list. Projects are identified by their relative path or, if it doesn't
-     * exist, by item-id (further 'uniquified' by space- and provider-id). If a project of the same 'id' is added again,
-     * it will move to the bottom of the list.
+     * Adds a new recently used project to the list. Projects are identified by their item-id (further 'uniquified' by
+     * space- and provider-id). If a project of the same 'id' is added again, it will move to the bottom of the list.
      *
      * @param project
      */
     public void add(final RecentlyUsedProject project) {
-        var projectKey = getKey(project.origin());
-        if (m_projects.containsKey(projectKey)) {
+        var projectKey = ProjectKey.of(project.origin());
+        var path = m_pathResolver.apply(project.origin());
+        modify(() -> {
             // ensures that the newly added entry is inserted at the bottom of the 'list'
             m_projects.remove(projectKey);
-        }
-        m_projects.put(projectKey, project);
+            m_projects.put(projectKey, project);
+            m_index.put(projectKey, project.name(), path);
+            return true;
+        });
     }
 
     /**
@@ -123,11 +186,17 @@ public final class MostRecentlyUsedProjects {
      * @param filter
      */
     public void removeIf(final Predicate<RecentlyUsedProject> filter) {
-        new HashSet<>(m_projects.keySet()).stream().forEach(k -> {
-            var p = m_projects.get(k);
-            if (filter.test(p)) {
-                m_projects.remove(k);
+        modify(() -> {
+            var removed = false;
+            for (var it = m_projects.entrySet().iterator(); it.hasNext();) {
+                var entry = it.next();
+                if (filter.test(entry.getValue())) {
+                    it.remove();
+                    m_index.remove(entry.getKey());
+                    removed = true;
+                }
             }
+            return removed;
         });
     }
 
@@ -152,29 +221,139 @@ public final class MostRecentlyUsedProjects {
             }
         }
 
-        var projectKey = getKey(providerId, spaceId, itemId);
-        var project = m_projects.get(projectKey);
-        if (project == null) {
-            return;
+        var projectKey = new ProjectKey(providerId, spaceId, itemId);
+        var updatedOrigin = newOrigin;
+        modify(() -> {
+            var project = m_projects.get(projectKey);
+            if (project == null) {
+                return false;
+            }
+            var updatedProject =
+                new RecentlyUsedProject(newName == null || newName.isEmpty() ? project.name() : newName,
+                    updatedOrigin == null ? project.origin() : updatedOrigin, project.timeUsed());
+            m_projects.put(projectKey, updatedProject);
+            m_index.put(projectKey, updatedProject.name(), m_pathResolver.apply(updatedProject.origin()));
+            return true;
+        });
+    }
+
+    /**
+     * Applies the modification while holding the write lock, drops the least recently used projects if the capacity
+     * is exceeded and notifies the change listeners (after releasing the lock) if anything changed.
+     */
+    private void modify(final Modification modification) {
+        final boolean modified;
+        m_lock.writeLock().lock();
+        try {
+            modified = modification.apply();
+            if (modified) {
+                while (m_projects.size() > m_capacity) {
+                    m_index.remove(m_projects.pollFirstEntry().getKey());
+                }
+                m_snapshot = null;
+            }
+        } finally {
+            m_lock.writeLock().unlock();
+        }
+        if (modified) {
+            m_changeListeners.forEach(Runnable::run);
         }
-        m_projects.put(projectKey,
-            new RecentlyUsedProject(newName == null || newName.isEmpty() ? project.name() : newName,
-                newOrigin == null ? project.origin() : newOrigin, project.timeUsed()));
     }
 
-    private static String getKey(final Origin origin) {
-        return getKey(origin.providerId(), origin.spaceId(), origin.itemId());
+    /**
+     * Registers a listener which is called whenever the recently used projects changed. The listener is called on the
+     * thread that applied the change and must therefore return quickly.
+     *
+     * @param listener the listener to add
+     */
+    public void addChangeListener(final Runnable listener) {
+        m_changeListeners.add(listener);
     }
 
-    private static String getKey(final String providerId, final String spaceId, final String itemId) {
-        return format("%s_%s_%s", providerId, spaceId, itemId);
+    /**
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(final Runnable listener) {
+        m_changeListeners.remove(listener);
     }
 
     /**
-     * @return the list of the recently used projects, with the most recently used one at the bottom
+     * @return an immutable snapshot of the recently used projects, with the most recently used one at the bottom; not
+     *         affected by subsequent modifications
      */
     public List<RecentlyUsedProject> get() {
-        return m_projects.values().stream().toList();
+        var snapshot = m_snapshot;
+        if (snapshot == null) {
+            m_lock.readLock().lock();
+            try {
+                snapshot = List.copyOf(m_projects.values());
+                // a modification (which resets the snapshot) can't happen before the lock is released
+                m_snapshot = snapshot;
+            } finally {
+                m_lock.readLock().unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Searches the recently used projects by name and (for local projects) relative path. Projects which contain, for
+     * every search term, a word starting with that term come first. They are followed by projects which only match
+     * 'fuzzily', i.e. which contain all the characters of the query in the same order. Within both groups, the most
+     * recently used project comes first.
+     *
+     * @param query the search query; an empty query matches all projects
+     * @param offset the index of the first match to return
+     * @param limit the maximum number of matches to return
+     * @return the requested page of matches and the total number of matches
+     */
+    public SearchResult search(final String query, final int offset, final int limit) {
+        CheckUtils.checkArgument(offset >= 0, "Offset must not be negative");
+        CheckUtils.checkArgument(limit >= 0, "Limit must not be negative");
+        var terms = RecentlyUsedProjectsIndex.toTerms(query == null ? "" : query);
+        var prefixMatches = new ArrayList<RecentlyUsedProject>();
+        var fuzzyMatches = new ArrayList<RecentlyUsedProject>();
+        m_lock.readLock().lock();
+        try {
+            var keysMatchingPrefixes = terms.isEmpty() ? null : m_index.findByPrefixes(terms);
+            for (var entry : m_projects.sequencedEntrySet().reversed()) {
+                var key = entry.getKey();
+                if (keysMatchingPrefixes == null || keysMatchingPrefixes.contains(key)) {
+                    prefixMatches.add(entry.getValue());
+                } else if (m_index.matchesFuzzy(key, terms)) {
+                    fuzzyMatches.add(entry.getValue());
+                }
+            }
+        } finally {
+            m_lock.readLock().unlock();
+        }
+        var matches = prefixMatches;
+        matches.addAll(fuzzyMatches);
+        var from = Math.min(offset, matches.size());
+        var to = (int)Math.min((long)from + limit, matches.size());
+        return new SearchResult(List.copyOf(matches.subList(from, to)), matches.size());
+    }
+
+    /**
+     * A modification of the projects and the index, applied while holding the write lock.
+     */
+    @FunctionalInterface
+    private interface Modification {
+
+        /**
+         * @return whether anything has been modified
+         */
+        boolean apply();
+    }
+
+    /**
+     * Identifies a recently used project.
+     */
+    private record ProjectKey(String providerId, String spaceId, String itemId) {
+
+        static ProjectKey of(final Origin origin) {
+            return new ProjectKey(origin.providerId(), origin.spaceId(), origin.itemId());
+        }
     }
 
     /**
@@ -191,4 +370,13 @@ public final class MostRecentlyUsedProjects {
             CheckUtils.checkNotNull(timeUsed);
         }
     }
+
+    /**
+     * A page of search results, see {@link MostRecentlyUsedProjects#search(String, int, int)}.
+     *
+     * @param projects the matching projects of the requested page
+     * @param totalCount the total number of matching projects
+     */
+    public record SearchResult(List<RecentlyUsedProject> projects, int totalCount) {
+    }
 }
@@ -0,0 +1,398 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowManager.NodeModelFilter;
+import org.knime.core.util.VMFileLocker;
+import org.knime.gateway.api.util.VersionId;
+import org.knime.gateway.impl.project.Origin;
+import org.knime.gateway.impl.project.Project;
+import org.knime.gateway.impl.project.ProjectManager;
+import org.knime.gateway.impl.webui.WorkflowMiddleware;
+
+/**
+ * Hibernates projects that aren't used, i.e. disposes the workflow managers of inactive projects while keeping the
+ * {@link Project}s themselves (including their origin) in the {@link ProjectManager}. Hibernated projects are
+ * transparently re-loaded as soon as they are activated again.
+ * <p>
+ * A project is hibernated if it hasn't been active for longer than configured via {@value #IDLE_MINUTES_PROPERTY} or
+ * if the used heap exceeds the share configured via {@value #HEAP_THRESHOLD_PERCENT_PROPERTY} (least recently active
+ * projects first). Only saved, non-executing projects of the local space are hibernated since only those can be
+ * re-loaded without any loss and without the network.
+ * <p>
+ * A hibernated project is still open (in a tab), hence its node views are closed and its workflow state (including
+ * the undo and redo stacks) is cleared before its workflow manager is disposed, and the lock of its workflow directory
+ * is kept until it's either re-loaded or closed. No project is hibernated while a modal dialog (e.g. a node dialog) is
+ * open.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class ProjectHibernation {
+
+    /**
+     * System property to configure the number of minutes after which inactive projects are hibernated; a value of
+     * {@code 0} or less disables the idle-based hibernation.
+     */
+    public static final String IDLE_MINUTES_PROPERTY = "org.knime.ui.hibernation.idle_minutes";
+
+    /**
+     * System property to configure the share of the maximum heap (in percent) above which inactive projects are
+     * hibernated; a value of {@code 0} or less disables the heap-based hibernation.
+     */
+    public static final String HEAP_THRESHOLD_PERCENT_PROPERTY = "org.knime.ui.hibernation.heap_threshold_percent";
+
+    private static final int DEFAULT_IDLE_MINUTES = 60;
+
+    private static final int DEFAULT_HEAP_THRESHOLD_PERCENT = 80;
+
+    private static final Duration CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ProjectHibernation.class);
+
+    /**
+     * Hibernation statistics since the hibernation has been started.
+     *
+     * @param hibernations number of hibernated projects
+     * @param reclaimedBytes the size of the workflow directories of the hibernated projects on disk in bytes; not the
+     *            actually reclaimed heap but a proxy for it
+     * @param reloads number of hibernated projects that have been re-loaded
+     * @param totalReloadMillis the total time it took to re-load the hibernated projects
+     */
+    public record Statistics(long hibernations, long reclaimedBytes, long reloads, long totalReloadMillis) {
+
+        /**
+         * @return the average time it took to re-load a hibernated project in milliseconds
+         */
+        public long averageReloadMillis() {
+            return reloads == 0 ? 0 : (totalReloadMillis / reloads);
+        }
+    }
+
+    private final ProjectManager m_projectManager;
+
+    private final Consumer<String> m_clearWorkflowState;
+
+    private final Duration m_idleThreshold;
+
+    private final long m_heapBudget;
+
+    private final LongSupplier m_usedHeap;
+
+    private final Map<String, Instant> m_lastActive = new HashMap<>();
+
+    private final Set<String> m_hibernated = new HashSet<>();
+
+    /**
+     * The workflow directories of the hibernated projects which are still locked, by project id.
+     */
+    private final Map<String, File> m_lockedWorkflowDirs = new HashMap<>();
+
+    private final Executor m_sizeEstimation;
+
+    private ScheduledExecutorService m_executor;
+
+    private long m_hibernations;
+
+    private long m_reclaimedBytes;
+
+    private long m_reloads;
+
+    private long m_totalReloadMillis;
+
+    /**
+     * Creates a new instance configured via system properties; call {@link #start()} to start hibernating projects.
+     *
+     * @param projectManager the project manager to hibernate the projects of
+     * @param workflowMiddleware the workflow middleware to clear the workflow state of hibernated projects in
+     */
+    public ProjectHibernation(final ProjectManager projectManager, final WorkflowMiddleware workflowMiddleware) {
+        this(projectManager,
+            projectId -> workflowMiddleware.clearWorkflowState(key -> key.getProjectId().equals(projectId)),
+            Duration.ofMinutes(Integer.getInteger(IDLE_MINUTES_PROPERTY, DEFAULT_IDLE_MINUTES)),
+            Runtime.getRuntime().maxMemory() / 100
+                * Integer.getInteger(HEAP_THRESHOLD_PERCENT_PROPERTY, DEFAULT_HEAP_THRESHOLD_PERCENT),
+            () -> Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory(),
+            DesktopAPUtil.newWorkerPool("Project-Hibernation", 1));
+    }
+
+    /**
+     * @param projectManager the project manager to hibernate the projects of
+     * @param clearWorkflowState clears the workflow state (e.g. undo and redo stacks) of the project with the given id
+     * @param idleThreshold duration after which inactive projects are hibernated; disabled if zero or negative
+     * @param heapBudget used heap in bytes above which inactive projects are hibernated; disabled if zero or negative
+     * @param usedHeap supplies the currently used heap in bytes
+     * @param sizeEstimation runs the estimation of the sizes of the hibernated projects
+     */
+    ProjectHibernation(final ProjectManager projectManager, final Consumer<String> clearWorkflowState,
+        final Duration idleThreshold, final long heapBudget, final LongSupplier usedHeap,
+        final Executor sizeEstimation) {
+        m_projectManager = projectManager;
+        m_clearWorkflowState = clearWorkflowState;
+        m_idleThreshold = idleThreshold;
+        m_heapBudget = heapBudget;
+        m_usedHeap = usedHeap;
+        m_sizeEstimation = sizeEstimation;
+    }
+
+    /**
+     * Periodically checks for projects to hibernate (in the display thread, i.e. never concurrently to a project being
+     * activated).
+     */
+    public synchronized void start() {
+        if (m_executor != null) {
+            return;
+        }
+        m_executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "KNIME-UI-Project-Hibernation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var display = Display.getDefault();
+        m_executor.scheduleWithFixedDelay(() -> {
+            if (!display.isDisposed()) {
+                display.asyncExec(() -> hibernateProjects(Instant.now()));
+            }
+        }, CHECK_INTERVAL.toMillis(), CHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking for projects to hibernate and releases the locks of the hibernated projects.
+     */
+    public synchronized void dispose() {
+        if (m_executor != null) {
+            m_executor.shutdownNow();
+            m_executor = null;
+        }
+        if (m_sizeEstimation instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        m_lockedWorkflowDirs.values().forEach(VMFileLocker::unlockForVM);
+        m_lockedWorkflowDirs.clear();
+    }
+
+    /**
+     * Hibernates the projects that have been inactive for too long and, if the heap budget is exceeded, the least
+     * recently active one.
+     *
+     * @param now the current time
+     * @return the ids of the hibernated projects
+     */
+    synchronized List<String> hibernateProjects(final Instant now) {
+        var projectIds = m_projectManager.getProjectIds();
+        m_lastActive.keySet().retainAll(projectIds);
+        m_hibernated.retainAll(projectIds);
+        if (isModalDialogOpen()) {
+            // the dialog might belong to a node of an inactive project
+            return List.of();
+        }
+        var candidates = new ArrayList<String>();
+        for (var projectId : projectIds) {
+            if (m_projectManager.isActiveProject(projectId)) {
+                m_lastActive.put(projectId, now);
+            } else {
+                m_lastActive.putIfAbsent(projectId, now);
+                candidates.add(projectId);
+            }
+        }
+        candidates.sort(Comparator.comparing(m_lastActive::get));
+
+        var hibernated = new ArrayList<String>();
+        for (var projectId : candidates) {
+            var isIdle = !m_idleThreshold.isZero() && !m_idleThreshold.isNegative()
+                && Duration.between(m_lastActive.get(projectId), now).compareTo(m_idleThreshold) >= 0;
+            // memory is only actually freed by the next garbage collection, i.e. the used heap can't tell whether
+            // another project needs to be hibernated - hence at most one project per check
+            var isOverHeapBudget = hibernated.isEmpty() && m_heapBudget > 0 && m_usedHeap.getAsLong() > m_heapBudget;
+            if ((isIdle || isOverHeapBudget) && hibernate(projectId)) {
+                hibernated.add(projectId);
+            }
+        }
+        return hibernated;
+    }
+
+    private boolean hibernate(final String projectId) {
+        var project = m_projectManager.getProject(projectId).orElse(null);
+        if (project == null || !project.getOrigin().map(Origin::isLocal).orElse(false)) {
+            return false;
+        }
+        var wfm = project.getWorkflowManagerIfLoaded().orElse(null);
+        if (wfm == null || wfm.isDirty() || isExecutionInProgress(wfm)) {
+            return false;
+        }
+        wfm.findNodes(NodeModel.class, new NodeModelFilter<>(), true, true).values()
+            .forEach(Node::invokeNodeModelCloseViews);
+        m_clearWorkflowState.accept(projectId);
+        var workflowDir = wfm.getContextV2().getExecutorInfo().getLocalWorkflowPath().toFile();
+        project.disposeCachedWfm(VersionId.currentState());
+        // disposing the workflow manager releases the lock - keep the project locked while it's open
+        if (VMFileLocker.lockForVM(workflowDir)) {
+            m_lockedWorkflowDirs.put(projectId, workflowDir);
+        } else {
+            LOGGER.debug("Workflow directory of hibernated project '" + projectId + "' couldn't be locked");
+        }
+        m_hibernated.add(projectId);
+        m_hibernations++;
+        // the estimation walks the workflow directory, i.e. must not block the display thread
+        m_sizeEstimation.execute(() -> addReclaimedBytes(estimateSize(workflowDir.toPath(), projectId)));
+        LOGGER.debug("Hibernated project '" + projectId + "' (" + getStatistics() + ")");
+        return true;
+    }
+
+    /**
+     * Releases the lock of a hibernated project right away once it's closed. The workflow might be opened again right
+     * after (as a new project), whose workflow manager then holds the lock of the same directory.
+     *
+     * @param projectId the id of the removed project
+     */
+    public synchronized void projectRemoved(final String projectId) {
+        releaseLock(projectId);
+        m_hibernated.remove(projectId);
+        m_lastActive.remove(projectId);
+    }
+
+    /**
+     * Releases the lock of the workflow directory of a hibernated project such that the workflow manager re-loaded
+     * from it can lock it itself (locks are held per VM, i.e. it wouldn't notice the lock being held on its behalf and
+     * the lock would stay with this class otherwise). Must be called right before the project is re-loaded.
+     *
+     * @param projectId the id of the project
+     */
+    public synchronized void releaseLock(final String projectId) {
+        var workflowDir = m_lockedWorkflowDirs.remove(projectId);
+        if (workflowDir != null) {
+            VMFileLocker.unlockForVM(workflowDir);
+        }
+    }
+
+    private synchronized void addReclaimedBytes(final long bytes) {
+        m_reclaimedBytes += bytes;
+    }
+
+    private static boolean isModalDialogOpen() {
+        var display = Display.getCurrent();
+        if (display == null) {
+            return false;
+        }
+        var modal = SWT.APPLICATION_MODAL | SWT.PRIMARY_MODAL | SWT.SYSTEM_MODAL;
+        return Stream.of(display.getShells()).anyMatch(shell -> !shell.isDisposed() && shell.isVisible()
+            && (shell.getStyle() & modal) != 0);
+    }
+
+    private static boolean isExecutionInProgress(final WorkflowManager wfm) {
+        var state = wfm.getNodeContainerState();
+        return state.isExecutionInProgress() || state.isExecutingRemotely();
+    }
+
+    private static long estimateSize(final Path workflowDir, final String projectId) {
+        try {
+            return WorkflowSizeEstimator.estimate(workflowDir).total();
+        } catch (IOException e) { // NOSONAR
+            LOGGER.debug("Size of project '" + projectId + "' couldn't be estimated", e);
+            return 0;
+        }
+    }
+
+    /**
+     * @param projectId the id of the project
+     * @return whether the project has been hibernated and not re-loaded since
+     */
+    public synchronized boolean isHibernated(final String projectId) {
+        return m_hibernated.contains(projectId);
+    }
+
+    /**
+     * Records that a hibernated project has been re-loaded.
+     *
+     * @param projectId the id of the project
+     * @param reloadDuration the time it took to re-load the project
+     */
+    public synchronized void reloaded(final String projectId, final Duration reloadDuration) {
+        if (m_hibernated.remove(projectId)) {
+            m_reloads++;
+            m_totalReloadMillis += reloadDuration.toMillis();
+            LOGGER.debug("Re-loaded hibernated project '" + projectId + "' in " + reloadDuration.toMillis() + "ms ("
+                + getStatistics() + ")");
+        }
+    }
+
+    /**
+     * @return the hibernation statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(m_hibernations, m_reclaimedBytes, m_reloads, m_totalReloadMillis);
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * An in-memory search index over the names and paths of the {@link MostRecentlyUsedProjects}. The index is updated
+ * incrementally whenever an entry is added, changed or removed.
+ * <p>
+ * Not thread-safe. {@link MostRecentlyUsedProjects} guards its index with a read-write lock.
+ *
+ * @param <K> the type of the keys identifying the indexed entries
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+final class RecentlyUsedProjectsIndex<K> {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Maps every token (i.e. word of a name or path segment) to the keys of the entries containing it. Sorted in order
+     * to be able to look up all tokens starting with a given prefix.
+     */
+    private final NavigableMap<String, Set<K>> m_tokenToKeys = new TreeMap<>();
+
+    private final Map<K, IndexEntry> m_entries = new HashMap<>();
+
+    /**
+     * @param tokens the tokens the entry is registered with in {@link #m_tokenToKeys}
+     * @param text the normalized name and path, used for fuzzy matching
+     */
+    private record IndexEntry(Set<String> tokens, String text) {
+    }
+
+    /**
+     * Adds an entry to the index or replaces the existing entry for the given key.
+     *
+     * @param key the entry's key
+     * @param name the entry's name
+     * @param path the entry's path, can be {@code null}
+     */
+    void put(final K key, final String name, final String path) {
+        remove(key);
+        var text = normalize(path == null ? name : (name + " " + path));
+        var tokens = new HashSet<String>();
+        for (var token : TOKEN_SEPARATOR.split(text)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        for (var token : tokens) {
+            m_tokenToKeys.computeIfAbsent(token, t -> new HashSet<>()).add(key);
+        }
+        m_entries.put(key, new IndexEntry(Set.copyOf(tokens), text));
+    }
+
+    /**
+     * Removes the entry for the given key from the index, if present.
+     *
+     * @param key the entry's key
+     */
+    void remove(final K key) {
+        var entry = m_entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (var token : entry.tokens()) {
+            var keys = m_tokenToKeys.get(token);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                m_tokenToKeys.remove(token);
+            }
+        }
+    }
+
+    /**
+     * @param query the (not yet normalized) search query
+     * @return the search terms of the query
+     */
+    static List<String> toTerms(final String query) {
+        var normalized = normalize(query).trim();
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(WHITESPACE.split(normalized));
+    }
+
+    /**
+     * @param terms the search terms as returned by {@link #toTerms(String)}
+     * @return the keys of all entries which, for every term, contain a token that starts with that term
+     */
+    Set<K> findByPrefixes(final List<String> terms) {
+        Set<K> result = null;
+        for (var term : terms) {
+            var keysForTerm = new HashSet<K>();
+            for (var termToken : TOKEN_SEPARATOR.split(term)) {
+                if (termToken.isEmpty()) {
+                    continue;
+                }
+                m_tokenToKeys.subMap(termToken, true, termToken + Character.MAX_VALUE, false).values()
+                    .forEach(keysForTerm::addAll);
+            }
+            if (result == null) {
+                result = keysForTerm;
+            } else {
+                result.retainAll(keysForTerm);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Set.of() : result;
+    }
+
+    /**
+     * Checks whether all characters of the search terms appear, in order, in the entry's name or path.
+     *
+     * @param key the entry's key
+     * @param terms the search terms as returned by {@link #toTerms(String)}
+     * @return whether the entry matches the terms 'fuzzily'; {@code false} if there is no entry for the key
+     */
+    boolean matchesFuzzy(final K key, final List<String> terms) {
+        var entry = m_entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        var text = entry.text();
+        var pos = 0;
+        for (var term : terms) {
+            for (var i = 0; i < term.length(); i++) {
+                pos = text.indexOf(term.charAt(i), pos);
+                if (pos < 0) {
+                    return false;
+                }
+                pos++;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(final String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.knime.core.node.workflow.contextv2.LocationInfo;
+import org.knime.gateway.api.util.VersionId;
+import org.knime.gateway.api.webui.entity.SpaceItemReferenceEnt.ProjectTypeEnum;
+import org.knime.gateway.api.webui.service.util.MutableServiceCallException;
+import org.knime.gateway.api.webui.service.util.ServiceExceptions.LoggedOutException;
+import org.knime.gateway.api.webui.service.util.ServiceExceptions.NetworkException;
+import org.knime.gateway.impl.webui.spaces.Space;
+import org.knime.gateway.impl.webui.spaces.local.LocalSpace;
+
+/**
+ * Caches metadata of space items (name, project type, KNIME URL and location info) such that the repeated look-ups
+ * within a user action (e.g. opening a project) don't result in repeated (network) calls to the {@link Space}.
+ * <p>
+ * Values are cached per space provider and space since space ids are only unique within a provider. They expire after
+ * the time configured via {@value #TTL_SECONDS_PROPERTY}. Moreover, the values of an entire space are dropped via
+ * {@link #invalidate(String, String)}, e.g., after items have been uploaded into, renamed or moved within it. The
+ * metadata of items in the {@link LocalSpace} isn't cached at all: it's cheap to look up and, since local items can
+ * also be changed outside of the application, it would be prone to going stale.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class SpaceMetadataCache {
+
+    /**
+     * System property to configure the number of seconds the metadata of a space item is cached; a value of {@code 0}
+     * or less disables the cache.
+     */
+    public static final String TTL_SECONDS_PROPERTY = "org.knime.ui.space_metadata_cache.ttl_seconds";
+
+    private static final int DEFAULT_TTL_SECONDS = 30;
+
+    /**
+     * Number of cached values above which expired values are purged.
+     */
+    private static final int PURGE_THRESHOLD = 1000;
+
+    private record Key(String spaceProviderId, String spaceId, String itemId, String property) {
+    }
+
+    private record Value(Object value, long loadedAt) {
+    }
+
+    @FunctionalInterface
+    private interface Loader<T> {
+        T load() throws NetworkException, LoggedOutException, MutableServiceCallException;
+    }
+
+    private final long m_ttlNanos;
+
+    private final LongSupplier m_nanoTime;
+
+    private final Map<Key, Value> m_values = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation. Used to detect invalidations that happen while a value is being loaded.
+     */
+    private final AtomicLong m_invalidationCount = new AtomicLong();
+
+    /**
+     * Creates a new cache with the configured time-to-live.
+     */
+    public SpaceMetadataCache() {
+        this(Duration.ofSeconds(Integer.getInteger(TTL_SECONDS_PROPERTY, DEFAULT_TTL_SECONDS)), System::nanoTime);
+    }
+
+    SpaceMetadataCache(final Duration ttl, final LongSupplier nanoTime) {
+        m_ttlNanos = Math.max(0, ttl.toNanos());
+        m_nanoTime = nanoTime;
+    }
+
+    /**
+     * @return a cache that doesn't cache anything, i.e. passes all look-ups to the space
+     */
+    public static SpaceMetadataCache noCache() {
+        return new SpaceMetadataCache(Duration.ZERO, System::nanoTime);
+    }
+
+    /**
+     * @param spaceProviderId the id of the provider of the space
+     * @param space -
+     * @param itemId -
+     * @return see {@link Space#getItemName(String)}
+     * @throws NetworkException -
+     * @throws LoggedOutException -
+     * @throws MutableServiceCallException -
+     */
+    public String getItemName(final String spaceProviderId, final Space space, final String itemId)
+        throws NetworkException, LoggedOutException, MutableServiceCallException {
+        return get(space, new Key(spaceProviderId, space.getId(), itemId, "name"), () -> space.getItemName(itemId));
+    }
+
+    /**
+     * @param spaceProviderId the id of the provider of the space
+     * @param space -
+     * @param itemId -
+     * @return see {@link Space#getProjectType(String)}; an empty result isn't cached
+     * @throws NetworkException -
+     * @throws LoggedOutException -
+     * @throws MutableServiceCallException -
+     */
+    public Optional<ProjectTypeEnum> getProjectType(final String spaceProviderId, final Space space,
+        final String itemId) throws NetworkException, LoggedOutException, MutableServiceCallException {
+        return Optional.ofNullable(get(space, new Key(spaceProviderId, space.getId(), itemId, "projectType"),
+            () -> space.getProjectType(itemId).orElse(null)));
+    }
+
+    /**
+     * @param spaceProviderId the id of the provider of the space
+     * @param space -
+     * @param itemId -
+     * @return see {@link Space#toKnimeUrl(String)}
+     */
+    public URI toKnimeUrl(final String spaceProviderId, final Space space, final String itemId) {
+        if (space instanceof LocalSpace) {
+            return space.toKnimeUrl(itemId);
+        }
+        var key = new Key(spaceProviderId, space.getId(), itemId, "url");
+        var cached = getIfPresent(key);
+        if (cached != null) {
+            return (URI)cached;
+        }
+        var invalidationCount = m_invalidationCount.get();
+        return put(key, invalidationCount, space.toKnimeUrl(itemId));
+    }
+
+    /**
+     * @param spaceProviderId the id of the provider of the space
+     * @param space -
+     * @param itemId -
+     * @param version -
+     * @return see {@link Space#getLocationInfo(String, VersionId)}
+     * @throws NetworkException -
+     * @throws LoggedOutException -
+     * @throws MutableServiceCallException -
+     */
+    public LocationInfo getLocationInfo(final String spaceProviderId, final Space space, final String itemId,
+        final VersionId version) throws NetworkException, LoggedOutException, MutableServiceCallException {
+        return get(space, new Key(spaceProviderId, space.getId(), itemId, "location@" + version),
+            () -> space.getLocationInfo(itemId, version));
+    }
+
+    /**
+     * Drops the cached metadata of all items of the given space, e.g., because items have been uploaded into it or an
+     * item has been renamed or moved (which might also change the metadata of the items contained in it).
+     *
+     * @param spaceProviderId the id of the provider of the space
+     * @param spaceId -
+     */
+    public void invalidate(final String spaceProviderId, final String spaceId) {
+        m_invalidationCount.incrementAndGet();
+        m_values.keySet().removeIf(
+            key -> Objects.equals(key.spaceProviderId(), spaceProviderId) && Objects.equals(key.spaceId(), spaceId));
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void dispose() {
+        m_invalidationCount.incrementAndGet();
+        m_values.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(final Space space, final Key key, final Loader<T> loader)
+        throws NetworkException, LoggedOutException, MutableServiceCallException {
+        if (space instanceof LocalSpace) {
+            return loader.load();
+        }
+        var cached = getIfPresent(key);
+        if (cached != null) {
+            return (T)cached;
+        }
+        var invalidationCount = m_invalidationCount.get();
+        return put(key, invalidationCount, loader.load());
+    }
+
+    private Object getIfPresent(final Key key) {
+        var cached = m_values.get(key);
+        if (cached != null && !isExpired(cached, m_nanoTime.getAsLong())) {
+            return cached.value();
+        }
+        return null;
+    }
+
+    private <T> T put(final Key key, final long invalidationCount, final T value) {
+        if (value == null || m_ttlNanos == 0) {
+            return value;
+        }
+        var now = m_nanoTime.getAsLong();
+        if (m_values.size() >= PURGE_THRESHOLD) {
+            m_values.values().removeIf(v -> isExpired(v, now));
+        }
+        var cached = new Value(value, now);
+        m_values.put(key, cached);
+        if (m_invalidationCount.get() != invalidationCount) {
+            // the value might have been loaded before the invalidation
+            m_values.remove(key, cached);
+        }
+        return value;
+    }
+
+    private boolean isExpired(final Value value, final long now) {
+        return now - value.loadedAt() >= m_ttlNanos;
+    }
+
+}
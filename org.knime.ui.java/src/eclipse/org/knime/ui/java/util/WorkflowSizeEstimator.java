@@ -0,0 +1,246 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.knime.core.node.workflow.WorkflowPersistor;
+
+/**
+ * Estimates how many bytes a workflow occupies on disk, broken down per node into data (port objects, file stores),
+ * internals and settings. Used to warn users before they transfer (multi-GB) workflows and to point them to the nodes
+ * that are worth resetting.
+ * <p>
+ * Node directories are walked in parallel. The per-node results are cached and re-used as long as neither the node
+ * directory nor its settings file changed, which is the case whenever a node is saved.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class WorkflowSizeEstimator {
+
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    private static final String NODE_SETTINGS_FILE = "settings.xml";
+
+    private static final Map<Path, CachedNodeSize> CACHE = new ConcurrentHashMap<>();
+
+    private WorkflowSizeEstimator() {
+        // utility
+    }
+
+    /**
+     * The size of a single node, in bytes.
+     *
+     * @param path the path of the node directory relative to the workflow directory
+     * @param data the size of the node's data, i.e. port objects and file stores
+     * @param internals the size of the node's internals
+     * @param settings the size of the node's settings
+     * @param other the size of everything else in the node directory
+     */
+    public record NodeSize(String path, long data, long internals, long settings, long other) {
+
+        /**
+         * @return the overall size of the node
+         */
+        public long total() {
+            return data + internals + settings + other;
+        }
+    }
+
+    /**
+     * @param workflow the size of all the files that don't belong to a particular node (e.g. the workflow
+     *            description and the workflow data area), in bytes
+     * @param nodes the node sizes, largest first
+     */
+    public record SizeEstimate(long workflow, List<NodeSize> nodes) {
+
+        /**
+         * @return the overall size of the workflow, in bytes
+         */
+        public long total() {
+            return workflow + nodes.stream().mapToLong(NodeSize::total).sum();
+        }
+    }
+
+    /**
+     * @param settingsLastModified the modification time of the node's settings (or, for metanodes, workflow) file
+     */
+    private record CachedNodeSize(long dirLastModified, long settingsLastModified, NodeSize size) {
+    }
+
+    /**
+     * Estimates the size of the workflow (or component) stored in the given directory. Nodes of metanodes and
+     * components are listed individually, with their path relative to the given directory.
+     *
+     * @param workflowDir the workflow directory
+     * @return the size estimate
+     * @throws IOException if the workflow directory couldn't be read
+     */
+    public static SizeEstimate estimate(final Path workflowDir) throws IOException {
+        var nodes = new ArrayList<NodeSize>();
+        var workflowBytes = estimate(workflowDir, workflowDir, nodes);
+        nodes.sort(Comparator.comparingLong(NodeSize::total).reversed());
+        if (CACHE.size() > MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        return new SizeEstimate(workflowBytes, List.copyOf(nodes));
+    }
+
+    /**
+     * Adds the sizes of the nodes in the given workflow directory (and, recursively, of the nodes of contained
+     * metanodes and components) to the given list.
+     *
+     * @return the size of the files in the given directory that don't belong to a node
+     */
+    private static long estimate(final Path rootDir, final Path workflowDir, final List<NodeSize> nodes)
+        throws IOException {
+        var nodeDirs = new ArrayList<Path>();
+        var workflowBytes = 0L;
+        try (var children = Files.list(workflowDir)) {
+            for (var child : (Iterable<Path>)children::iterator) {
+                if (isNodeDir(child)) {
+                    nodeDirs.add(child);
+                } else {
+                    workflowBytes += sizeOf(child);
+                }
+            }
+        }
+        try {
+            nodes.addAll(nodeDirs.parallelStream().map(nodeDir -> getNodeSize(rootDir, nodeDir)).toList());
+        } catch (UncheckedIOException e) { // NOSONAR
+            throw e.getCause();
+        }
+        for (var nodeDir : nodeDirs) {
+            if (Files.exists(nodeDir.resolve(WorkflowPersistor.WORKFLOW_FILE))) {
+                // metanode or component: the contained nodes are listed individually, everything else is already
+                // part of the metanode's or component's own size
+                estimate(rootDir, nodeDir, nodes);
+            }
+        }
+        return workflowBytes;
+    }
+
+    private static boolean isNodeDir(final Path path) {
+        return Files.isDirectory(path) && (Files.exists(path.resolve(NODE_SETTINGS_FILE))
+            || Files.exists(path.resolve(WorkflowPersistor.WORKFLOW_FILE)));
+    }
+
+    private static NodeSize getNodeSize(final Path rootDir, final Path nodeDir) {
+        try {
+            var dirLastModified = Files.getLastModifiedTime(nodeDir).toMillis();
+            var settingsFile = nodeDir.resolve(NODE_SETTINGS_FILE);
+            if (!Files.exists(settingsFile)) {
+                settingsFile = nodeDir.resolve(WorkflowPersistor.WORKFLOW_FILE);
+            }
+            var settingsLastModified = Files.getLastModifiedTime(settingsFile).toMillis();
+            var cached = CACHE.get(nodeDir);
+            if (cached != null && cached.dirLastModified() == dirLastModified
+                && cached.settingsLastModified() == settingsLastModified) {
+                return cached.size();
+            }
+            var size = computeNodeSize(rootDir, nodeDir);
+            CACHE.put(nodeDir, new CachedNodeSize(dirLastModified, settingsLastModified, size));
+            return size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static NodeSize computeNodeSize(final Path rootDir, final Path nodeDir) throws IOException {
+        long data = 0;
+        long internals = 0;
+        long settings = 0;
+        long other = 0;
+        try (Stream<Path> children = Files.list(nodeDir)) {
+            for (var child : (Iterable<Path>)children::iterator) {
+                var name = child.getFileName().toString();
+                if (isNodeDir(child)) {
+                    // nodes of a metanode or component, sized separately
+                    continue;
+                }
+                if (name.startsWith("port_") || name.startsWith("filestore")) {
+                    data += sizeOf(child);
+                } else if (name.startsWith("internal")) {
+                    internals += sizeOf(child);
+                } else if (name.endsWith(".xml") || name.equals(WorkflowPersistor.WORKFLOW_FILE)) {
+                    settings += sizeOf(child);
+                } else {
+                    other += sizeOf(child);
+                }
+            }
+        }
+        var path = rootDir.relativize(nodeDir).toString().replace('\\', '/');
+        return new NodeSize(path, data, internals, settings, other);
+    }
+
+    private static long sizeOf(final Path path) throws IOException {
+        var size = new long[1];
+        Files.walkFileTree(path, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                size[0] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return size[0];
+    }
+
+}
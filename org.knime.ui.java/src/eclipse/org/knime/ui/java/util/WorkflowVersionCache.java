@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (hornm): created
+ */
+package org.knime.ui.java.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.gateway.api.util.VersionId;
+
+/**
+ * Keeps track of the loaded (fixed) versions of all projects and decides which ones to dispose such that their
+ * estimated memory footprint stays within the budget configured via the {@value #MAX_SIZE_MB_PROPERTY} system
+ * property. The least recently activated versions are disposed first; the current state of a project is never tracked
+ * (and hence never disposed) and active versions are never disposed. Disposed versions are simply re-loaded on demand.
+ * <p>
+ * The footprint of a newly loaded version is estimated in the background, i.e. it is only taken into account from
+ * the next activation on.
+ *
+ * @author Martin Horn, KNIME GmbH, Konstanz, Germany
+ */
+public final class WorkflowVersionCache {
+
+    /**
+     * System property to configure the memory budget for loaded versions in megabytes. The footprint of a version is
+     * estimated from the size of its workflow directory on disk (which isn't the same as its heap footprint but grows
+     * with it), i.e. the budget is compared against on-disk sizes.
+     */
+    public static final String MAX_SIZE_MB_PROPERTY = "org.knime.ui.version_cache.max_size_mb";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowVersionCache.class);
+
+    /**
+     * Cache statistics since the cache has been created.
+     *
+     * @param hits number of times an activated version was still loaded
+     * @param misses number of times an activated version had to be (re-)loaded
+     * @param evictions number of versions disposed to stay within the memory budget
+     */
+    public record Statistics(long hits, long misses, long evictions) {
+    }
+
+    private record Key(String projectId, VersionId version) {
+    }
+
+    /**
+     * Mutable such that an estimated size can be set without affecting the access-order.
+     */
+    private static final class Size {
+        private long m_bytes;
+    }
+
+    private final long m_maxSize;
+
+    private final Executor m_sizeEstimation;
+
+    /**
+     * Estimated sizes of the loaded versions in access-order, i.e. the least recently activated one first.
+     */
+    private final LinkedHashMap<Key, Size> m_sizes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_size;
+
+    private long m_hits;
+
+    private long m_misses;
+
+    private long m_evictions;
+
+    /**
+     * @param maxSize the memory budget for all loaded versions in bytes
+     */
+    public WorkflowVersionCache(final long maxSize) {
+        this(maxSize, DesktopAPUtil.newWorkerPool("Version-Size-Estimation", 1));
+    }
+
+    WorkflowVersionCache(final long maxSize, final Executor sizeEstimation) {
+        m_maxSize = maxSize;
+        m_sizeEstimation = sizeEstimation;
+    }
+
+    /**
+     * @return the configured memory budget in bytes; by default a quarter of the maximum heap size
+     */
+    public static long getConfiguredMaxSize() {
+        var maxSizeMb = Long.getLong(MAX_SIZE_MB_PROPERTY);
+        return maxSizeMb == null ? (Runtime.getRuntime().maxMemory() / 4) : (Math.max(0, maxSizeMb) * 1024 * 1024);
+    }
+
+    /**
+     * Records that a version of a project has been activated and disposes the least recently activated versions if
+     * the memory budget is exceeded. The size of a version not tracked yet is estimated in the background.
+     *
+     * @param projectId the id of the project
+     * @param version the activated version; the current state is ignored
+     * @param wasLoaded whether the version was still loaded or had to be (re-)loaded
+     * @param estimateSize estimates the memory footprint of the loaded version in bytes; called from another thread
+     * @param isActive to determine whether a version of a project is currently active and hence must not be disposed
+     * @param dispose called for every version to dispose
+     */
+    public synchronized void versionActivated(final String projectId, final VersionId version,
+        final boolean wasLoaded, final LongSupplier estimateSize, final BiPredicate<String, VersionId> isActive,
+        final BiConsumer<String, VersionId> dispose) {
+        if (version.isCurrentState()) {
+            return;
+        }
+        if (wasLoaded) {
+            m_hits++;
+        } else {
+            m_misses++;
+        }
+        var key = new Key(projectId, version);
+        // 'get' moves the version to the end of the access-order
+        var size = m_sizes.get(key);
+        var isNew = size == null;
+        if (isNew) {
+            size = new Size();
+            m_sizes.put(key, size);
+        }
+
+        // iterating the entries (other than 'get') doesn't affect the access-order
+        var toEvict = new ArrayList<Key>();
+        var remainingSize = m_size;
+        for (var it = m_sizes.entrySet().iterator(); remainingSize > m_maxSize && it.hasNext();) {
+            var entry = it.next();
+            var candidate = entry.getKey();
+            if (!candidate.equals(key) && !isActive.test(candidate.projectId(), candidate.version())) {
+                toEvict.add(candidate);
+                remainingSize -= entry.getValue().m_bytes;
+            }
+        }
+        evict(toEvict, dispose);
+        if (isNew) {
+            estimateSizeInBackground(key, size, estimateSize);
+        }
+    }
+
+    private void estimateSizeInBackground(final Key key, final Size size, final LongSupplier estimateSize) {
+        m_sizeEstimation.execute(() -> {
+            var bytes = estimateSize.getAsLong();
+            synchronized (this) {
+                // the version might have been disposed or its project removed in the meantime
+                if (m_sizes.containsValue(size)) {
+                    size.m_bytes = bytes;
+                    m_size += bytes;
+                }
+            }
+            LOGGER.debug("Estimated size of version " + key.version() + " of project '" + key.projectId() + "': "
+                + bytes + " bytes");
+        });
+    }
+
+    private void evict(final List<Key> toEvict, final BiConsumer<String, VersionId> dispose) {
+        for (var key : toEvict) {
+            m_size -= m_sizes.remove(key).m_bytes;
+            dispose.accept(key.projectId(), key.version());
+            m_evictions++;
+            LOGGER.debug("Disposed version " + key.version() + " of project '" + key.projectId()
+                + "' to stay within the memory budget (" + getStatistics() + ")");
+        }
+    }
+
+    /**
+     * Stops tracking the versions of the given project, e.g. because it has been closed.
+     *
+     * @param projectId the id of the project
+     */
+    public synchronized void projectRemoved(final String projectId) {
+        for (var it = m_sizes.entrySet().iterator(); it.hasNext();) {
+            var entry = it.next();
+            if (entry.getKey().projectId().equals(projectId)) {
+                m_size -= entry.getValue().m_bytes;
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the cache statistics
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(m_hits, m_misses, m_evictions);
+    }
+
+    /**
+     * @return the estimated memory footprint of all tracked versions in bytes
+     */
+    public synchronized long getSize() {
+        return m_size;
+    }
+
+    /**
+     * Stops tracking all versions and the estimation of sizes.
+     */
+    public synchronized void dispose() {
+        m_sizes.clear();
+        m_size = 0;
+        if (m_sizeEstimation instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+}
@@ -84,6 +84,14 @@ const browserFunctions: BrowserFunctionDescriptor[] = [
     returnValue: true,
     blocksUi: true,
   },
+  {
+    name: "saveProjectAsync",
+    params: [
+      ["projectId", "project1"],
+      ["allowOverwritePrompt", false],
+    ],
+    returnValue: true,
+  },
   {
     name: "openProject",
     params: [
@@ -301,6 +309,14 @@ const browserFunctions: BrowserFunctionDescriptor[] = [
       ["itemId", "123"],
     ],
   },
+  {
+    name: "searchMostRecentlyUsedProjects",
+    params: [
+      ["query", "name"],
+      ["offset", 0],
+      ["limit", 20],
+    ],
+  },
   {
     name: "updateMostRecentlyUsedProject",
     params: [
@@ -361,6 +361,27 @@ export const saveProject = ({
   );
 };
 
+/**
+ * Saves the project without blocking the UI. The progress is reported via `SaveProjectProgressEvent`s,
+ * the result via a `SaveProjectFinishedEvent`.
+ * @returns whether the save has been started (i.e. `false` if the project is already being saved)
+ */
+export const saveProjectAsync = ({
+  projectId,
+  allowOverwritePrompt,
+}: {
+  projectId: string;
+  allowOverwritePrompt?: boolean;
+}) => {
+  return callBrowserFunction(
+    window.saveProjectAsync,
+    [projectId, allowOverwritePrompt],
+    "Could not save workflow",
+    true,
+    { block: false },
+  );
+};
+
 export const openProject = ({
   spaceId = "local",
   itemId,
@@ -801,6 +822,26 @@ export const updateAndGetMostRecentlyUsedProjects = async (): Promise<
   return JSON.parse(response ?? "[]");
 };
 
+export const searchMostRecentlyUsedProjects = async ({
+  query,
+  offset,
+  limit,
+}: {
+  query: string;
+  offset: number;
+  limit: number;
+}): Promise<{ projects: RecentWorkflow[]; totalCount: number }> => {
+  const response = await callBrowserFunction(
+    window.searchMostRecentlyUsedProjects,
+    [query, offset, limit],
+    "Failed to search most recently used projects",
+    true,
+    { block: false },
+  );
+
+  return JSON.parse(response ?? '{ "projects": [], "totalCount": 0 }');
+};
+
 export const removeMostRecentlyUsedProject = ({
   spaceProviderId,
   spaceId,
@@ -61,6 +61,11 @@ declare function saveProject(
   allowOverwritePrompt?: boolean,
 ): boolean;
 
+declare function saveProjectAsync(
+  projectId: string,
+  allowOverwritePrompt?: boolean,
+): boolean;
+
 declare function openProject(
   spaceId: string,
   itemId: string,
@@ -203,6 +208,12 @@ declare function setConfirmNodeConfigChangesPreference(value: boolean): void;
 
 declare function updateAndGetMostRecentlyUsedProjects(): string;
 
+declare function searchMostRecentlyUsedProjects(
+  query: string,
+  offset: number,
+  limit: number,
+): string;
+
 declare function removeMostRecentlyUsedProject(
   spaceProviderId: string,
   spaceId: string,
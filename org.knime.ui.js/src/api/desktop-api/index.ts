@@ -22,6 +22,33 @@ export interface DesktopEventHandlers {
 
   AiAssistantServerChangedEvent(): void;
 
+  SaveProjectProgressEvent(payload: {
+    projectId: string;
+    task?: string | null;
+    subtask?: string | null;
+    progress?: number | null;
+  }): void;
+
+  SaveProjectFinishedEvent(payload: {
+    projectId: string;
+    success: boolean;
+  }): void;
+
+  SpaceTransferProgressEvent(payload: {
+    task: string;
+    item: string;
+    itemStatus: "started" | "finished" | "failed";
+    subtask: string;
+    progress: number;
+  }): void;
+
+  SpaceTransferFinishedEvent(payload: {
+    task: string;
+    numItems: number;
+    numTransferred: number;
+    numFailed: number;
+  }): void;
+
   DesktopAPIFunctionResultEvent(payload: DesktopAPIFunctionResultPayload): void;
 }
 
@@ -401,4 +401,42 @@ describe("Event Plugin", () => {
       expect(toastMock.show).toBeCalledWith(toastEvent);
     });
   });
+
+  describe("save project events", () => {
+    it("hides the loader only once no project is being saved anymore", () => {
+      const { mockedStores } = setup();
+      const { updateGlobalLoader } = mockedStores.globalLoaderStore;
+
+      registeredHandlers.SaveProjectProgressEvent!({
+        projectId: "p1",
+        task: "Saving p1",
+        progress: 10,
+      });
+      registeredHandlers.SaveProjectProgressEvent!({
+        projectId: "p2",
+        task: "Saving p2",
+        progress: 20,
+      });
+      expect(updateGlobalLoader).toHaveBeenLastCalledWith(
+        expect.objectContaining({
+          loading: true,
+          text: "Saving 2 workflows: Saving p2 (20%)",
+        }),
+      );
+
+      registeredHandlers.SaveProjectFinishedEvent!({
+        projectId: "p1",
+        success: true,
+      });
+      expect(updateGlobalLoader).toHaveBeenLastCalledWith(
+        expect.objectContaining({ loading: true, text: "Saving p2 (20%)" }),
+      );
+
+      registeredHandlers.SaveProjectFinishedEvent!({
+        projectId: "p2",
+        success: true,
+      });
+      expect(updateGlobalLoader).toHaveBeenLastCalledWith({ loading: false });
+    });
+  });
 });
@@ -1,3 +1,4 @@
+import { useEventBus } from "@vueuse/core";
 import { API } from "@api";
 import type { Router } from "vue-router";
 
@@ -27,6 +28,30 @@ export const registerAPIEventHandlers = (
   $router: Router,
   $toast: ToastServiceProvider,
 ) => {
+  // the progress texts of the projects currently being saved asynchronously,
+  // the most recently updated one last
+  const projectsBeingSaved = new Map<string, string>();
+
+  const updateSaveProjectLoader = () => {
+    if (projectsBeingSaved.size === 0) {
+      useGlobalLoaderStore().updateGlobalLoader({ loading: false });
+      return;
+    }
+    const texts = [...projectsBeingSaved.values()];
+    const latestText = texts[texts.length - 1];
+
+    // non-blocking, i.e. other projects can still be edited while saving
+    useGlobalLoaderStore().updateGlobalLoader({
+      loading: true,
+      displayMode: "floating",
+      loadingMode: "normal",
+      text:
+        texts.length === 1
+          ? latestText
+          : `Saving ${texts.length} workflows: ${latestText}`,
+    });
+  };
+
   API.event.registerEventHandlers({
     /**
      * Is a generic event, that holds multiple events (names separated by ':')
@@ -307,6 +332,64 @@ export const registerAPIEventHandlers = (
       aiProviderStore.fetchUiStrings({ force: true });
     },
 
+    // Is triggered by the backend while a project is saved via `saveProjectAsync`
+    SaveProjectProgressEvent({ projectId, task, subtask, progress }) {
+      consola.info("events::SaveProjectProgressEvent", {
+        projectId,
+        task,
+        subtask,
+        progress,
+      });
+
+      const label = subtask ?? task ?? "Saving workflow";
+      const text =
+        typeof progress === "number" ? `${label} (${progress}%)` : label;
+
+      projectsBeingSaved.delete(projectId);
+      projectsBeingSaved.set(projectId, text);
+      updateSaveProjectLoader();
+    },
+
+    SaveProjectFinishedEvent({ projectId, success }) {
+      consola.info("events::SaveProjectFinishedEvent", { projectId, success });
+
+      // the loader is only hidden once no other project is being saved anymore
+      projectsBeingSaved.delete(projectId);
+      updateSaveProjectLoader();
+
+      useEventBus<{ projectId: string; success: boolean }>(
+        "save-project-finished",
+      ).emit({ projectId, success });
+    },
+
+    // Is triggered by the backend while multiple items are downloaded or imported in parallel
+    SpaceTransferProgressEvent({ task, item, itemStatus, subtask, progress }) {
+      consola.info("events::SpaceTransferProgressEvent", {
+        task,
+        item,
+        itemStatus,
+        progress,
+      });
+
+      useGlobalLoaderStore().updateGlobalLoader({
+        loading: true,
+        displayMode: "floating",
+        loadingMode: "normal",
+        text: `${task}: ${subtask} (${progress}%)`,
+      });
+    },
+
+    SpaceTransferFinishedEvent({ task, numItems, numTransferred, numFailed }) {
+      consola.info("events::SpaceTransferFinishedEvent", {
+        task,
+        numItems,
+        numTransferred,
+        numFailed,
+      });
+
+      useGlobalLoaderStore().updateGlobalLoader({ loading: false });
+    },
+
     DesktopAPIFunctionResultEvent(payload) {
       // forward to app local event bus, handled in desktop-api promise
       $bus.emit(`desktop-api-function-result-${payload.name}`, payload);
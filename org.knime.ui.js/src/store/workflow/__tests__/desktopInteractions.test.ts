@@ -15,6 +15,8 @@ vi.mock("@/lib/encodeString", () => ({
 const mockedAPI = deepMocked(API);
 
 const emitSpy = vi.fn();
+// returns the function to unsubscribe
+const onSpy = vi.fn((_listener: (event: any) => void) => vi.fn());
 vi.mock("@vueuse/core", async (importOriginal) => {
   const actual = await importOriginal();
   return {
@@ -22,12 +24,40 @@ vi.mock("@vueuse/core", async (importOriginal) => {
     ...actual,
     useEventBus: vi.fn(() => ({
       emit: emitSpy,
-      on: vi.fn(),
+      on: onSpy,
       off: vi.fn(),
     })),
   };
 });
 
+type SaveFinishedListener = (event: {
+  projectId: string;
+  success: boolean;
+}) => void;
+
+const mockSaveProjectAsync = ({
+  started = true,
+  success = true,
+} = {}) => {
+  const listeners: SaveFinishedListener[] = [];
+  onSpy.mockImplementation((listener: SaveFinishedListener) => {
+    listeners.push(listener);
+    return vi.fn();
+  });
+  mockedAPI.desktop.saveProjectAsync.mockImplementation(
+    ({ projectId }: { projectId: string }) => {
+      if (started) {
+        // a save of another project must not be mistaken for this one
+        listeners.forEach((listener) =>
+          listener({ projectId: "other", success: !success }),
+        );
+        listeners.forEach((listener) => listener({ projectId, success }));
+      }
+      return Promise.resolve(started);
+    },
+  );
+};
+
 describe("workflow store: desktop interactions", () => {
   afterEach(() => {
     vi.clearAllMocks();
@@ -86,9 +116,8 @@ describe("workflow store: desktop interactions", () => {
     });
 
     describe("save workflow", () => {
-      mockedAPI.desktop.saveProject.mockResolvedValue(true);
-
-      it("saves the workflow via the API", async () => {
+      it("saves the workflow asynchronously via the API", async () => {
+        mockSaveProjectAsync();
         const { workflowStore, desktopInteractionsStore } = mockStores();
 
         workflowStore.setActiveWorkflow(
@@ -98,33 +127,16 @@ describe("workflow store: desktop interactions", () => {
           }),
         );
 
-        await desktopInteractionsStore.saveProject();
+        expect(await desktopInteractionsStore.saveProject()).toBe(true);
 
-        expect(mockedAPI.desktop.saveProject).toHaveBeenCalledWith(
+        expect(mockedAPI.desktop.saveProjectAsync).toHaveBeenCalledWith(
           expect.objectContaining({ projectId: "foo" }),
         );
+        expect(emitSpy).toHaveBeenCalled();
       });
 
-      it("sends the correct workflow preview for a root workflow", async () => {
-        const { workflowStore, desktopInteractionsStore } = mockStores();
-
-        workflowStore.setActiveWorkflow(
-          createWorkflow({
-            projectId: "foo",
-            info: { containerId: "root" },
-          }),
-        );
-
-        await desktopInteractionsStore.saveProject();
-
-        expect(mockedAPI.desktop.saveProject).toHaveBeenCalledWith(
-          expect.objectContaining({
-            projectId: "foo",
-          }),
-        );
-      });
-
-      it("sends the correct workflow preview for a nested workflow", async () => {
+      it("saves the project of a nested workflow", async () => {
+        mockSaveProjectAsync();
         const { workflowStore, desktopInteractionsStore } = mockStores();
 
         const projectId = "project1";
@@ -139,7 +151,7 @@ describe("workflow store: desktop interactions", () => {
 
         await desktopInteractionsStore.saveProject();
 
-        expect(mockedAPI.desktop.saveProject).toHaveBeenCalledWith(
+        expect(mockedAPI.desktop.saveProjectAsync).toHaveBeenCalledWith(
           expect.objectContaining({
             projectId: "project1",
           }),
@@ -367,11 +379,11 @@ describe("workflow store: desktop interactions", () => {
         }),
       );
 
-      mockedAPI.desktop.saveProject.mockResolvedValue(true);
+      mockSaveProjectAsync();
 
       await desktopInteractionsStore.saveProject();
 
-      expect(mockedAPI.desktop.saveProject).toHaveBeenCalledWith(
+      expect(mockedAPI.desktop.saveProjectAsync).toHaveBeenCalledWith(
         expect.objectContaining({ projectId: "foo" }),
       );
 
@@ -391,7 +403,9 @@ describe("workflow store: desktop interactions", () => {
       const workflowSavedBus = useEventBus("workflow-saved");
       const emitSpy = vi.spyOn(workflowSavedBus, "emit");
 
-      mockedAPI.desktop.saveProject.mockRejectedValue(new Error("Save failed"));
+      mockedAPI.desktop.saveProjectAsync.mockRejectedValue(
+        new Error("Save failed"),
+      );
 
       await expect(
         desktopInteractionsStore.saveProject(),
@@ -410,9 +424,21 @@ describe("workflow store: desktop interactions", () => {
         }),
       );
 
-      mockedAPI.desktop.saveProject.mockResolvedValue(false);
+      mockSaveProjectAsync({ success: false });
 
-      await desktopInteractionsStore.saveProject();
+      expect(await desktopInteractionsStore.saveProject()).toBe(false);
+
+      expect(emitSpy).not.toHaveBeenCalled();
+    });
+
+    it("should NOT emit workflow-saved event if the project is already being saved", async () => {
+      const { desktopInteractionsStore, workflowStore } = mockStores();
+
+      workflowStore.setActiveWorkflow(createWorkflow({ projectId: "foo" }));
+
+      mockSaveProjectAsync({ started: false });
+
+      expect(await desktopInteractionsStore.saveProject()).toBe(false);
 
       expect(emitSpy).not.toHaveBeenCalled();
     });
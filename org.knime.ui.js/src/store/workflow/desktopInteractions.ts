@@ -18,14 +18,36 @@ import { useWorkflowStore } from "./workflow";
  */
 export const useDesktopInteractionsStore = defineStore("desktopInteractions", {
   actions: {
-    /* See docs in API */
+    /**
+     * Saves the active project without blocking the UI and waits for the save
+     * to finish (see `saveProjectAsync` in the API).
+     */
     async saveProject() {
       const { projectId } = useWorkflowStore().getProjectAndWorkflowIds;
 
-      const result = await API.desktop.saveProject({
-        projectId,
+      // subscribe before starting the save such that a quick save isn't missed
+      const saveFinishedBus = useEventBus<{
+        projectId: string;
+        success: boolean;
+      }>("save-project-finished");
+      let unsubscribe = () => {};
+      const saveFinished = new Promise<boolean>((resolve) => {
+        unsubscribe = saveFinishedBus.on((event) => {
+          if (event.projectId === projectId) {
+            resolve(event.success);
+          }
+        });
       });
 
+      let result = false;
+      try {
+        // `false` if the project is already being saved
+        const started = await API.desktop.saveProjectAsync({ projectId });
+        result = started ? await saveFinished : false;
+      } finally {
+        unsubscribe();
+      }
+
       if (result) {
         const workflowSavedBus = useEventBus("workflow-saved");
         workflowSavedBus.emit();